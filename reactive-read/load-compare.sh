@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Compara hilos de la JVM y conexiones a MySQL bajo alta concurrencia entre
+# la aplicación MVC bloqueante (puerto 8080) y el módulo reactivo (puerto 8081).
+# Requiere ambas aplicaciones arrancadas, `hey` (https://github.com/rakyll/hey) y el cliente `mysql`.
+#
+# Uso: reactive-read/load-compare.sh [concurrencia] [peticiones]
+
+set -euo pipefail
+
+CONCURRENCY="${1:-500}"
+REQUESTS="${2:-50000}"
+MYSQL="mysql -h ${DB_HOST:-localhost} -u ${DB_USER:-root} -p${DB_PASSWORD:-0000} -N -B"
+
+pid_on_port() {
+    lsof -t -iTCP:"$1" -sTCP:LISTEN | head -1
+}
+
+# Máximo de hilos del proceso y de conexiones a MySQL observados durante la carga
+sample() {
+    local pid="$1" max_threads=0 max_connections=0
+    while [ -f "$RESULT_DIR/running" ]; do
+        threads=$(awk '/Threads/ {print $2}' "/proc/$pid/status")
+        connections=$($MYSQL -e "SELECT COUNT(*) FROM information_schema.processlist WHERE db = 'forohub_db'")
+        (( threads > max_threads )) && max_threads=$threads
+        (( connections > max_connections )) && max_connections=$connections
+        sleep 0.2
+    done
+    echo "$max_threads $max_connections" > "$RESULT_DIR/sample"
+}
+
+run() {
+    local name="$1" port="$2" path="$3"
+    local pid
+    pid=$(pid_on_port "$port")
+
+    touch "$RESULT_DIR/running"
+    sample "$pid" &
+    local sampler=$!
+
+    hey -n "$REQUESTS" -c "$CONCURRENCY" "http://localhost:$port$path" > "$RESULT_DIR/$name.txt"
+    rm "$RESULT_DIR/running"
+    wait "$sampler"
+
+    read -r threads connections < "$RESULT_DIR/sample"
+    local rps p99
+    rps=$(awk '/Requests\/sec/ {print $2}' "$RESULT_DIR/$name.txt")
+    p99=$(awk '/99% in/ {print $3}' "$RESULT_DIR/$name.txt")
+    printf "%-22s %10s %10s %8s %12s\n" "$name" "$rps" "$p99" "$threads" "$connections"
+}
+
+RESULT_DIR=$(mktemp -d)
+printf "%-22s %10s %10s %8s %12s\n" "variante" "req/s" "p99 (s)" "hilos" "conexiones"
+for path in "/topics" "/courses" "/replies"; do
+    run "mvc $path" 8080 "$path?page=0&size=50"
+    run "reactivo $path" 8081 "$path?page=0&size=50"
+done
+echo "Detalle de cada ejecución en $RESULT_DIR"
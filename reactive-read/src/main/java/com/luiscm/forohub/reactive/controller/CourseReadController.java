@@ -0,0 +1,49 @@
+package com.luiscm.forohub.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luiscm.forohub.reactive.dto.CourseListDTO;
+
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/courses")
+public class CourseReadController {
+
+    private static final Map<String, String> SORTABLE = Map.of(
+        "name", "name",
+        "category", "category",
+        "courseId", "course_id",
+        "createdAt", "created_at");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CourseListDTO> listCourses(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sort) {
+
+        var query = PageQuery.of(page, size, sort, SORTABLE);
+        return databaseClient.sql("""
+                SELECT course_id, name, category, active, created_at
+                FROM courses
+                WHERE active
+                ORDER BY %s
+                LIMIT :limit OFFSET :offset
+                """.formatted(query.orderBy()))
+            .bind("limit", query.size())
+            .bind("offset", query.offset())
+            .map(CourseListDTO::new)
+            .all();
+    }
+}
@@ -0,0 +1,25 @@
+package com.luiscm.forohub.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// Equivalente mínimo de Pageable: página, tamaño y un único criterio de orden de una lista permitida
+record PageQuery(int size, long offset, String orderBy) {
+
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    static PageQuery of(int page, int size, String sort, Map<String, String> sortableColumns) {
+        String[] parts = sort.split(",");
+        String column = sortableColumns.get(parts[0]);
+        if (column == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No se puede ordenar por " + parts[0]);
+        }
+        String direction = parts.length > 1 && parts[1].equalsIgnoreCase("desc") ? "DESC" : "ASC";
+
+        int boundedSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long offset = (long) Math.max(page, 0) * boundedSize;
+        return new PageQuery(boundedSize, offset, column + " " + direction);
+    }
+}
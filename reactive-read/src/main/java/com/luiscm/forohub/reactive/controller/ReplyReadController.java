@@ -0,0 +1,54 @@
+package com.luiscm.forohub.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luiscm.forohub.reactive.dto.ReplyDetailDTO;
+
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/replies")
+public class ReplyReadController {
+
+    private static final Map<String, String> SORTABLE = Map.of(
+        "createdAt", "r.created_at",
+        "replyId", "r.reply_id");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ReplyDetailDTO> listReplies(
+            @RequestParam(required = false) Long topicId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sort) {
+
+        var query = PageQuery.of(page, size, sort, SORTABLE);
+        String filter = topicId != null ? "WHERE r.topic_id = :topicId" : "";
+        var spec = databaseClient.sql("""
+                SELECT r.reply_id, r.message, r.created_at, r.solution, r.active,
+                       r.user_id, u.name AS user_name, r.topic_id
+                FROM replies r
+                JOIN users u ON u.id = r.user_id
+                %s
+                ORDER BY %s
+                LIMIT :limit OFFSET :offset
+                """.formatted(filter, query.orderBy()))
+            .bind("limit", query.size())
+            .bind("offset", query.offset());
+
+        if (topicId != null) {
+            spec = spec.bind("topicId", topicId);
+        }
+        return spec.map(ReplyDetailDTO::new).all();
+    }
+}
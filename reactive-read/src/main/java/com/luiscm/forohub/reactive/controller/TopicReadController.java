@@ -0,0 +1,80 @@
+package com.luiscm.forohub.reactive.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luiscm.forohub.reactive.dto.TopicDetailDTO;
+
+import io.r2dbc.spi.Readable;
+
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/topics")
+public class TopicReadController {
+
+    private static final Map<String, String> SORTABLE = Map.of(
+        "createdAt", "created_at",
+        "topicId", "topic_id",
+        "title", "title",
+        "status", "status");
+
+    private static final TypeReference<List<String>> TAG_NAMES = new TypeReference<>() {
+    };
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Las filas se escriben en la respuesta a medida que llegan, según la demanda del cliente
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TopicDetailDTO> listTopics(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sort) {
+
+        var query = PageQuery.of(page, size, sort, SORTABLE);
+        return databaseClient.sql("""
+                SELECT t.topic_id, t.title, t.message, t.status, t.created_at, t.user_id, t.course_id,
+                       (SELECT JSON_ARRAYAGG(g.name)
+                        FROM topic_tags tt
+                        JOIN tags g ON g.tag_id = tt.tag_id
+                        WHERE tt.topic_id = t.topic_id) AS tags
+                FROM topics t
+                ORDER BY t.%s
+                LIMIT :limit OFFSET :offset
+                """.formatted(query.orderBy()))
+            .bind("limit", query.size())
+            .bind("offset", query.offset())
+            .map(row -> new TopicDetailDTO(row, tagsOf(row)))
+            .all();
+    }
+
+    // Ordenadas como en la API principal; JSON porque los nombres pueden contener cualquier separador
+    private Set<String> tagsOf(Readable row) {
+        String json = row.get("tags", String.class);
+        if (json == null) {
+            return new TreeSet<>();
+        }
+        try {
+            return new TreeSet<>(objectMapper.readValue(json, TAG_NAMES));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Etiquetas ilegibles para el tópico " + row.get("topic_id", Long.class), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.luiscm.forohub.reactive.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import io.r2dbc.spi.Readable;
+
+// Misma forma que com.luiscm.forohub.model.dto.CourseListDTO (sin estadísticas)
+public record CourseListDTO(
+    Long courseId,
+    String name,
+    String category,
+    boolean active,
+    String createdAt
+) {
+    private static final DateTimeFormatter formatter =
+        DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    public CourseListDTO(Readable row) {
+        this(
+            row.get("course_id", Long.class),
+            row.get("name", String.class),
+            row.get("category", String.class),
+            Boolean.TRUE.equals(row.get("active", Boolean.class)),
+            format(row.get("created_at", LocalDateTime.class))
+        );
+    }
+
+    private static String format(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.format(formatter) : "No disponible";
+    }
+}
@@ -0,0 +1,30 @@
+package com.luiscm.forohub.reactive.dto;
+
+import java.time.LocalDateTime;
+
+import io.r2dbc.spi.Readable;
+
+// Misma forma que com.luiscm.forohub.model.dto.ReplyDetailDTO
+public record ReplyDetailDTO(
+    Long replyId,
+    String message,
+    LocalDateTime createdAt,
+    boolean solution,
+    boolean active,
+    Long userId,
+    String userName,
+    Long topicId
+) {
+    public ReplyDetailDTO(Readable row) {
+        this(
+            row.get("reply_id", Long.class),
+            row.get("message", String.class),
+            row.get("created_at", LocalDateTime.class),
+            Boolean.TRUE.equals(row.get("solution", Boolean.class)),
+            Boolean.TRUE.equals(row.get("active", Boolean.class)),
+            row.get("user_id", Long.class),
+            row.get("user_name", String.class),
+            row.get("topic_id", Long.class)
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.luiscm.forohub.reactive.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import io.r2dbc.spi.Readable;
+
+// Misma forma que com.luiscm.forohub.model.dto.TopicDetailDTO
+public record TopicDetailDTO(
+    Long topicId,
+    String title,
+    String message,
+    String status,
+    LocalDateTime createdAt,
+    Long userId,
+    Long courseId,
+    Set<String> tags
+) {
+    public TopicDetailDTO(Readable row, Set<String> tags) {
+        this(
+            row.get("topic_id", Long.class),
+            row.get("title", String.class),
+            row.get("message", String.class),
+            row.get("status", String.class),
+            row.get("created_at", LocalDateTime.class),
+            row.get("user_id", Long.class),
+            row.get("course_id", Long.class),
+            tags
+        );
+    }
+}
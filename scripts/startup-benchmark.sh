@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Mide el tiempo hasta el primer GET /topics exitoso y la memoria residente (RSS)
+# de las variantes estándar, AOT y AOT + CDS. Requiere la base de datos configurada.
+#
+# Uso: scripts/startup-benchmark.sh [repeticiones]
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+URL="http://localhost:${PORT}/topics"
+WORK_DIR="target/startup-benchmark"
+CDS_DIR="target/cds"
+JAR="target/forohub-0.0.1-SNAPSHOT.jar"
+
+# El perfil fast-startup genera el código AOT, extrae el jar y crea el archivo CDS con un arranque de entrenamiento
+./mvnw -q -Pfast-startup -DskipTests clean package
+mkdir -p "$WORK_DIR"
+APP_JAR="$CDS_DIR/$(basename "$JAR")"
+
+measure() {
+    local name="$1"; shift
+    local total_ms=0 total_rss=0
+
+    for run in $(seq 1 "$RUNS"); do
+        local start end pid rss
+        start=$(date +%s%N)
+        "$@" --server.port="$PORT" > "$WORK_DIR/$name-$run.log" 2>&1 &
+        pid=$!
+
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "La variante $name terminó antes de responder; ver $WORK_DIR/$name-$run.log" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        end=$(date +%s%N)
+        rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+
+        total_ms=$((total_ms + (end - start) / 1000000))
+        total_rss=$((total_rss + rss))
+    done
+
+    printf "%-12s %10d ms %10d MB\n" "$name" $((total_ms / RUNS)) $((total_rss / RUNS / 1024))
+}
+
+printf "%-12s %13s %13s\n" "variante" "primer GET" "RSS"
+measure standard  java -jar "$APP_JAR"
+measure aot       java -Dspring.aot.enabled=true -jar "$APP_JAR"
+measure aot-lazy  java -Dspring.aot.enabled=true -jar "$APP_JAR" --spring.profiles.active=fast
+measure cds       java -XX:SharedArchiveFile="$CDS_DIR/application.jsa" -Dspring.aot.enabled=true \
+                       -jar "$APP_JAR" --spring.profiles.active=fast
@@ -0,0 +1,80 @@
+package com.luiscm.forohub.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Límite de concurrencia adaptativo por gradiente: compara la latencia de cada
+ * petición con la mínima observada. Si la latencia crece por encima de la
+ * tolerancia, el límite baja de forma proporcional; si se mantiene y el límite
+ * se está usando, sube en raíz cuadrada del límite actual.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double RTT_TOLERANCE = 2.0;
+    private static final double SMOOTHING = 0.2;
+    // La latencia mínima sube lentamente para adaptarse a una base de datos más lenta de forma sostenida
+    private static final double MIN_RTT_DRIFT = 0.001;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile double limit;
+    private double minRttNanos = Double.MAX_VALUE;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtRelease);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtRelease) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        minRttNanos = Math.min(rttNanos, minRttNanos * (1 + MIN_RTT_DRIFT));
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * minRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+
+        // Sin carga suficiente la latencia no dice nada sobre un límite mayor
+        if (newLimit > limit && inFlightAtRelease < limit / 2) {
+            return;
+        }
+
+        double smoothed = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
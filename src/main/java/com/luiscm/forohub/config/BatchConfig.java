@@ -0,0 +1,27 @@
+package com.luiscm.forohub.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BatchConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor batchExecutor(
+            @Value("${forohub.batch.pool-size:8}") int poolSize,
+            @Value("${forohub.batch.queue-capacity:64}") int queueCapacity) {
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-");
+        // Con la cola llena, la sub-petición se ejecuta en el hilo de la petición /batch
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,20 @@
+package com.luiscm.forohub.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ChangeFeedConfig {
+
+    // Un solo hilo resuelve las esperas de /changes: las comprobaciones se agrupan, no se encolan
+    @Bean
+    public ThreadPoolTaskExecutor changeFeedExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("changes-");
+        return executor;
+    }
+}
@@ -0,0 +1,106 @@
+package com.luiscm.forohub.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Forma columnar de una página: los nombres de campo se escriben una sola vez
+ * y cada elemento es un arreglo de valores en el orden de "columns".
+ */
+public class CompactPageHttpMessageConverter extends AbstractHttpMessageConverter<Page<?>> {
+
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType("application/vnd.forohub.compact+json");
+
+    private final ObjectMapper objectMapper;
+
+    public CompactPageHttpMessageConverter(ObjectMapper objectMapper) {
+        super(COMPACT_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Page.class.isAssignableFrom(clazz);
+    }
+
+    // Solo si el cliente lo pide explícitamente: sin Accept o con */* la respuesta sigue siendo
+    // application/json. Al no declararse "producible", la negociación llega a este tipo a través de
+    // application/*+json del conversor de Jackson, y este conversor, que va antes, es el que escribe
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && COMPACT_JSON.includes(mediaType) && !mediaType.isWildcardSubtype()
+            && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Page<?> readInternal(Class<? extends Page<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Solo se admite para respuestas", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Page<?> page, HttpOutputMessage outputMessage) throws IOException {
+        List<JsonNode> rows = new ArrayList<>(page.getNumberOfElements());
+        Set<String> columns = new LinkedHashSet<>();
+        for (Object element : page.getContent()) {
+            JsonNode row = objectMapper.valueToTree(element);
+            for (Iterator<String> names = row.fieldNames(); names.hasNext();) {
+                columns.add(names.next());
+            }
+            rows.add(row);
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputMessage.getBody())) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("columns");
+            for (String column : columns) {
+                generator.writeString(column);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("rows");
+            for (JsonNode row : rows) {
+                generator.writeStartArray();
+                for (String column : columns) {
+                    JsonNode value = row.get(column);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeTree(value);
+                    }
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+
+            generator.writeObjectFieldStart("page");
+            generator.writeNumberField("number", page.getNumber());
+            generator.writeNumberField("size", page.getSize());
+            generator.writeNumberField("totalElements", page.getTotalElements());
+            generator.writeNumberField("totalPages", page.getTotalPages());
+            generator.writeEndObject();
+
+            generator.writeEndObject();
+        }
+    }
+}
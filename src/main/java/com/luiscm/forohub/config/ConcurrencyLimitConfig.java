@@ -0,0 +1,47 @@
+package com.luiscm.forohub.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.luiscm.forohub.config.ConcurrencyLimitFilter.EndpointClass;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    // Lecturas, escrituras y endpoints costosos tienen límites separados para que
+    // una avalancha de lecturas no deje sin capacidad a POST /topics o POST /replies
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${forohub.concurrency.enabled:true}") boolean enabled,
+            @Value("${forohub.concurrency.read.initial-limit:60}") int readInitial,
+            @Value("${forohub.concurrency.read.max-limit:120}") int readMax,
+            @Value("${forohub.concurrency.write.initial-limit:20}") int writeInitial,
+            @Value("${forohub.concurrency.write.max-limit:50}") int writeMax,
+            @Value("${forohub.concurrency.expensive.initial-limit:8}") int expensiveInitial,
+            @Value("${forohub.concurrency.expensive.max-limit:20}") int expensiveMax,
+            @Value("${forohub.concurrency.min-limit:2}") int minLimit,
+            @Value("${forohub.concurrency.long-poll.limit:100}") int longPollLimit) {
+
+        Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+        limiters.put(EndpointClass.READ, new AdaptiveConcurrencyLimiter(readInitial, minLimit, readMax));
+        limiters.put(EndpointClass.WRITE, new AdaptiveConcurrencyLimiter(writeInitial, minLimit, writeMax));
+        limiters.put(EndpointClass.EXPENSIVE, new AdaptiveConcurrencyLimiter(expensiveInitial, minLimit, expensiveMax));
+        // Las esperas duran por diseño: su latencia no dice nada de la carga, el límite es fijo
+        limiters.put(EndpointClass.LONG_POLL, new AdaptiveConcurrencyLimiter(longPollLimit, longPollLimit, longPollLimit));
+
+        var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiters, meterRegistry));
+        registration.setEnabled(enabled);
+        // Después de la micro-caché: los aciertos de caché no consumen capacidad
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,129 @@
+package com.luiscm.forohub.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Rechaza con 503 en lugar de encolar cuando una clase de endpoints supera su límite
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public enum EndpointClass { READ, WRITE, EXPENSIVE, LONG_POLL }
+
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters;
+
+    public ConcurrencyLimitFilter(Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters, MeterRegistry meterRegistry) {
+        this.limiters = limiters;
+        limiters.forEach((endpointClass, limiter) -> {
+            String tag = endpointClass.name().toLowerCase();
+            Gauge.builder("forohub.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("class", tag).register(meterRegistry);
+            Gauge.builder("forohub.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("class", tag).register(meterRegistry);
+            FunctionCounter.builder("forohub.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .tag("class", tag).register(meterRegistry);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = path(request);
+        return path.startsWith("/actuator");
+    }
+
+    // Las esperas largas de /changes (wait > 0, acotado por ChangeController) son asíncronas: no retienen
+    // hilo ni conexión, pero cada una ocupa memoria y una consulta al despertar, así que tienen su propio
+    // límite. Una consulta con wait=0 es una lectura costosa más
+    private static boolean isLongPoll(String path, HttpServletRequest request) {
+        if (!path.equals("/changes")) {
+            return false;
+        }
+        try {
+            String wait = request.getParameter("wait");
+            return wait != null && Integer.parseInt(wait.strip()) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(classify(request));
+
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // El permiso se devuelve cuando termina la respuesta asíncrona, no al liberar el hilo
+                releaseOnCompletion(request.getAsyncContext(), limiter, start);
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static void releaseOnCompletion(AsyncContext context, AdaptiveConcurrencyLimiter limiter, long start) {
+        var released = new AtomicBoolean();
+        context.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                if (released.compareAndSet(false, true)) {
+                    limiter.release(System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = path(request);
+        if (isLongPoll(path, request)) {
+            return EndpointClass.LONG_POLL;
+        }
+        if (path.startsWith("/batch") || path.startsWith("/changes")
+                || path.endsWith("/stats") || path.endsWith("/activity") || path.endsWith("/top-answerers")) {
+            return EndpointClass.EXPENSIVE;
+        }
+        return "GET".equals(request.getMethod()) ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,26 @@
+package com.luiscm.forohub.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DomainEventConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor domainEventExecutor(
+            @Value("${forohub.events.pool-size:4}") int poolSize,
+            @Value("${forohub.events.queue-capacity:16}") int queueCapacity) {
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("events-");
+        // Con la cola llena se rechaza la tarea; el consumidor se vuelve a intentar en la siguiente pasada
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,191 @@
+package com.luiscm.forohub.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.luiscm.forohub.service.IdempotencyStore;
+import com.luiscm.forohub.service.IdempotencyStore.StoredResponse;
+
+// Los reintentos de un POST con la misma cabecera Idempotency-Key reciben la respuesta
+// original en lugar de crear otra fila. Va antes de la micro-caché y del límite de
+// concurrencia: una respuesta repetida no consume capacidad.
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 20)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final Set<String> IDEMPOTENT_CREATES = Set.of("/topics", "/replies", "/courses");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Value("${forohub.idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !"POST".equals(request.getMethod())
+            || request.getHeader(HEADER) == null
+            || !IDEMPOTENT_CREATES.contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).strip();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        var cachedRequest = new CachedBodyRequest(request);
+        String requestHash = hash(path(request), cachedRequest.body);
+        var claim = store.claim(key, requestHash);
+
+        switch (claim.status()) {
+            case REPLAY -> replay(claim.response(), response);
+            // La misma clave con otro cuerpo es un error del cliente, no un reintento
+            case MISMATCH -> response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+            case IN_PROGRESS -> {
+                response.setStatus(HttpStatus.CONFLICT.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            }
+            case ACQUIRED -> execute(key, claim.token(), requestHash, cachedRequest, response, chain);
+        }
+    }
+
+    private void execute(String key, String token, String requestHash, HttpServletRequest request,
+            HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        var wrapper = new ContentCachingResponseWrapper(response);
+        boolean produced = false;
+        try {
+            chain.doFilter(request, wrapper);
+            // Los 4xx se guardan: repetir la misma petición daría el mismo resultado
+            if (wrapper.getStatus() < 500) {
+                // La escritura ya se hizo: si no se puede guardar la respuesta, la clave no se libera
+                // para que un reintento no la repita; sigue PENDING hasta caducar
+                produced = true;
+                store.complete(key, token, new StoredResponse(requestHash, wrapper.getStatus(),
+                    ResponseHeaders.capture(wrapper), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+            }
+        } finally {
+            if (!produced) {
+                store.release(key, token);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        ResponseHeaders.replay(stored.headers(), response);
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null && stored.body().length > 0) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static String hash(String path, byte[] body) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(("POST " + path + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    // El cuerpo se lee una vez para calcular el hash y se vuelve a servir a los controladores
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // El cuerpo ya está en memoria: el listener se completa en el mismo hilo
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.luiscm.forohub.config;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Controller;
+
+import jakarta.servlet.Filter;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    // Con spring.main.lazy-initialization=true, los controladores y filtros siguen creándose al arrancar
+    // para que la primera petición no pague su inicialización
+    @Bean
+    static LazyInitializationExcludeFilter webBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+            AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                || Filter.class.isAssignableFrom(beanType);
+    }
+
+    // Las tareas programadas y los listeners solo se registran al crear el bean: si nadie lo
+    // inyecta (OutboxDispatcher, ReplyDigestService...), con creación diferida no se ejecutarían nunca
+    @Bean
+    static LazyInitializationExcludeFilter backgroundBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasBackgroundMethods(beanType);
+    }
+
+    static boolean hasBackgroundMethods(Class<?> beanType) {
+        Set<Method> methods = MethodIntrospector.selectMethods(beanType,
+            (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, EventListener.class) ? Boolean.TRUE : null)
+            .keySet();
+        return !methods.isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package com.luiscm.forohub.config;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.luiscm.forohub.config.ResponseMicroCache.CachedResponse;
+import com.luiscm.forohub.config.ResponseMicroCache.Result;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class MicroCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CACHED_LISTINGS = Set.of("/topics", "/courses", "/replies");
+
+    @Autowired
+    private ResponseMicroCache microCache;
+
+    @Value("${forohub.micro-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${forohub.micro-cache.max-page:0}")
+    private int maxPage;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || listingOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String listing = listingOf(request);
+
+        if (!"GET".equals(request.getMethod())) {
+            chain.doFilter(request, response);
+            // Cualquier escritura exitosa invalida los listados del mismo recurso
+            if (response.getStatus() < 400) {
+                microCache.invalidate(listing);
+            }
+            return;
+        }
+
+        String key = cacheKey(listing, request);
+        if (key == null || !path(request).equals(listing)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Result result = microCache.get(key, () -> {
+            var wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            return new CachedResponse(wrapper.getStatus(), wrapper.getContentType(),
+                ResponseHeaders.capture(wrapper), wrapper.getContentAsByteArray(), 0, 0);
+        });
+
+        CachedResponse cached = result.response();
+        response.setStatus(cached.status());
+        ResponseHeaders.replay(cached.headers(), response);
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setHeader("X-Cache", result.outcome().name());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    // Clave normalizada: ruta + parámetros ordenados (sin page=0) + tipo aceptado
+    private String cacheKey(String listing, HttpServletRequest request) {
+        Map<String, String> params = new TreeMap<>();
+        for (Map.Entry<String, String[]> param : request.getParameterMap().entrySet()) {
+            String[] values = param.getValue();
+            if (param.getKey().equals("page")) {
+                int page;
+                try {
+                    page = Integer.parseInt(values[0]);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                if (page > maxPage) {
+                    return null;
+                }
+                if (page == 0) {
+                    continue;
+                }
+            }
+            String joined = param.getKey().equals("sort")
+                ? String.join(";", values)
+                : String.join(",", Arrays.stream(values).sorted().toList());
+            params.put(param.getKey(), joined);
+        }
+
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return listing + "?" + params + "|" + (accept != null ? accept : "*/*");
+    }
+
+    private String listingOf(HttpServletRequest request) {
+        String path = path(request);
+        for (String listing : CACHED_LISTINGS) {
+            if (path.equals(listing) || path.startsWith(listing + "/")) {
+                return listing;
+            }
+        }
+        return null;
+    }
+
+    private String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
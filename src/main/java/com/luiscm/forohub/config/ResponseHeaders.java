@@ -0,0 +1,53 @@
+package com.luiscm.forohub.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// Copia y reproduce las cabeceras de una respuesta guardada (micro-caché, idempotencia).
+// Content-Type se guarda aparte y las cabeceras de transporte las recalcula el contenedor.
+final class ResponseHeaders {
+
+    private static final Set<String> NOT_STORED = Set.of(
+        HttpHeaders.CONTENT_TYPE.toLowerCase(),
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+        HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+        HttpHeaders.CONNECTION.toLowerCase(),
+        HttpHeaders.DATE.toLowerCase());
+
+    private ResponseHeaders() {
+    }
+
+    static Map<String, List<String>> capture(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!NOT_STORED.contains(name.toLowerCase()) && !headers.containsKey(name)) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return Collections.unmodifiableMap(headers);
+    }
+
+    // Una respuesta que fija cookies es de un único cliente: no se comparte con otros
+    static boolean isShareable(Map<String, List<String>> headers) {
+        return !headers.containsKey(HttpHeaders.SET_COOKIE);
+    }
+
+    static void replay(Map<String, List<String>> headers, HttpServletResponse response) {
+        headers.forEach((name, values) -> {
+            for (int i = 0; i < values.size(); i++) {
+                if (i == 0) {
+                    response.setHeader(name, values.get(i));
+                } else {
+                    response.addHeader(name, values.get(i));
+                }
+            }
+        });
+    }
+}
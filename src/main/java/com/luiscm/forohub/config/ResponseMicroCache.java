@@ -0,0 +1,149 @@
+package com.luiscm.forohub.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.ServletException;
+
+/**
+ * Micro-caché de respuestas ya serializadas (bytes) con TTL corto.
+ * Las peticiones concurrentes con la misma clave comparten una sola carga
+ * (single-flight) y, mientras una entrada está vencida pero dentro de la
+ * ventana "stale", una única petición la refresca y el resto recibe la copia anterior.
+ */
+@Component
+public class ResponseMicroCache {
+
+    public enum Outcome { HIT, STALE, MISS, SHARED }
+
+    // headers: resto de cabeceras de la respuesta original (Location, ETag, Cache-Control...)
+    public record CachedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body,
+                                 long freshUntil, long staleUntil) {
+    }
+
+    public record Result(CachedResponse response, Outcome outcome) {
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        CachedResponse load() throws IOException, ServletException;
+    }
+
+    private final ConcurrentHashMap<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    // Igual que en BoundedCache: una carga que se solapa con una invalidación puede ser anterior a la escritura
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    @Value("${forohub.micro-cache.ttl-ms:1000}")
+    private long ttlMs;
+
+    @Value("${forohub.micro-cache.stale-ms:5000}")
+    private long staleMs;
+
+    @Value("${forohub.micro-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${forohub.micro-cache.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    public Result get(String key, Loader loader) throws IOException, ServletException {
+        long now = System.currentTimeMillis();
+        CachedResponse cached = entries.get(key);
+
+        if (cached != null && now < cached.freshUntil()) {
+            return new Result(cached, Outcome.HIT);
+        }
+
+        if (cached != null && now < cached.staleUntil()) {
+            // Solo una petición revalida; las demás sirven la copia vencida
+            CompletableFuture<CachedResponse> refresh = new CompletableFuture<>();
+            if (inFlight.putIfAbsent(key, refresh) == null) {
+                return new Result(load(key, loader, refresh), Outcome.MISS);
+            }
+            return new Result(cached, Outcome.STALE);
+        }
+
+        CompletableFuture<CachedResponse> mine = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = inFlight.putIfAbsent(key, mine);
+        if (leader == null) {
+            return new Result(load(key, loader, mine), Outcome.MISS);
+        }
+
+        try {
+            CachedResponse shared = leader.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            return shared != null ? new Result(shared, Outcome.SHARED) : new Result(loader.load(), Outcome.MISS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(loader.load(), Outcome.MISS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Si la petición líder falla o tarda demasiado, esta consulta por su cuenta
+            return new Result(loader.load(), Outcome.MISS);
+        }
+    }
+
+    public void invalidate(String pathPrefix) {
+        invalidatedAt.merge(pathPrefix, generation.incrementAndGet(), Math::max);
+        entries.keySet().removeIf(key -> key.startsWith(pathPrefix));
+        // Las peticiones nuevas no deben esperar a una carga que empezó antes de la escritura
+        inFlight.keySet().removeIf(key -> key.startsWith(pathPrefix));
+    }
+
+    private boolean invalidatedSince(String key, long startedAt) {
+        for (Map.Entry<String, Long> invalidation : invalidatedAt.entrySet()) {
+            if (invalidation.getValue() > startedAt && key.startsWith(invalidation.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CachedResponse load(String key, Loader loader, CompletableFuture<CachedResponse> future)
+            throws IOException, ServletException {
+        long startedAt = generation.get();
+        try {
+            CachedResponse loaded = loader.load();
+            long now = System.currentTimeMillis();
+            CachedResponse stamped = new CachedResponse(loaded.status(), loaded.contentType(), loaded.headers(),
+                loaded.body(), now + ttlMs, now + ttlMs + staleMs);
+            boolean shareable = ResponseHeaders.isShareable(stamped.headers()) && !invalidatedSince(key, startedAt);
+            if (stamped.status() == 200 && shareable) {
+                store(key, stamped);
+                // Una invalidación entre la comprobación y el guardado también descarta la entrada
+                if (invalidatedSince(key, startedAt)) {
+                    entries.remove(key, stamped);
+                    shareable = false;
+                }
+            }
+            // null: las peticiones en espera cargan su propia respuesta
+            future.complete(shareable ? stamped : null);
+            return stamped;
+        } catch (IOException | ServletException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void store(String key, CachedResponse response) {
+        if (entries.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.staleUntil() <= now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, response);
+    }
+}
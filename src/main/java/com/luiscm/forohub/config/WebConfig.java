@@ -0,0 +1,24 @@
+package com.luiscm.forohub.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Va primero: el conversor JSON general también acepta application/*+json.
+    // No cambia el formato por defecto (ver CompactPageHttpMessageConverter.canWrite)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new CompactPageHttpMessageConverter(objectMapper));
+    }
+}
@@ -0,0 +1,34 @@
+package com.luiscm.forohub.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+
+import com.luiscm.forohub.model.dto.BatchItemResponseDTO;
+import com.luiscm.forohub.model.dto.BatchRequestDTO;
+import com.luiscm.forohub.service.BatchService;
+
+@RestController
+@RequestMapping("/batch")
+public class BatchController {
+
+    @Autowired
+    private BatchService batchService;
+
+    @PostMapping
+    public List<BatchItemResponseDTO> executeBatch(
+            @RequestBody @Valid BatchRequestDTO batch,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        return batchService.execute(batch, request, response);
+    }
+}
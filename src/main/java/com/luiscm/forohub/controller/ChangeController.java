@@ -0,0 +1,33 @@
+package com.luiscm.forohub.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.luiscm.forohub.model.dto.ChangeFeedDTO;
+import com.luiscm.forohub.service.ChangeLogService;
+
+@RestController
+@RequestMapping("/changes")
+public class ChangeController {
+
+    private static final int MAX_LIMIT = 500;
+    private static final int MAX_WAIT_SECONDS = 30;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @GetMapping
+    public DeferredResult<ChangeFeedDTO> listChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int wait) {
+
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        int boundedWait = Math.max(0, Math.min(wait, MAX_WAIT_SECONDS));
+        return changeLogService.awaitChanges(since, boundedLimit, boundedWait * 1000L);
+    }
+}
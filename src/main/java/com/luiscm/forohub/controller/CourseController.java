@@ -1,5 +1,10 @@
 package com.luiscm.forohub.controller;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,16 +19,26 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 
+import com.luiscm.forohub.exception.ResourceNotFoundException;
 import com.luiscm.forohub.model.dto.CourseListDTO;
 import com.luiscm.forohub.model.dto.CourseRegisterDTO;
+import com.luiscm.forohub.model.dto.CourseStatsDTO;
+import com.luiscm.forohub.model.dto.TopAnswererDTO;
 import com.luiscm.forohub.model.dto.CourseUpdateDTO;
+import com.luiscm.forohub.model.ChangeEntityType;
+import com.luiscm.forohub.model.ChangeOperation;
 import com.luiscm.forohub.model.Course;
 import com.luiscm.forohub.repository.CourseRepository;
+import com.luiscm.forohub.repository.CourseStatsRepository;
+import com.luiscm.forohub.service.ChangeLogService;
+import com.luiscm.forohub.service.CourseStatsService;
+import com.luiscm.forohub.service.UserActivityService;
 
 @RestController
 @RequestMapping("/courses")
@@ -32,6 +47,18 @@ public class CourseController {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private CourseStatsService courseStatsService;
+
+    @Autowired
+    private CourseStatsRepository courseStatsRepository;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
     @Transactional
     @PostMapping
     public ResponseEntity<CourseListDTO> create(
@@ -41,6 +68,7 @@ public class CourseController {
         // Crear y guardar el curso
         Course course = new Course(courseData);
         course = courseRepository.save(course);
+        changeLogService.record(ChangeEntityType.COURSE, course.getCourseId(), ChangeOperation.CREATE);
         
         // Construir la respuesta
         var uri = uriBuilder.path("/courses/{courseId}").buildAndExpand(course.getCourseId()).toUri();
@@ -48,8 +76,40 @@ public class CourseController {
     }
 
     @GetMapping
-    public Page<CourseListDTO> listCourses(@PageableDefault (size = 10, sort = "name")Pageable pageable) {
-        return courseRepository.findAllByActiveTrue(pageable).map(CourseListDTO::new);
+    public Page<CourseListDTO> listCourses(
+            @RequestParam(defaultValue = "false") boolean withStats,
+            @PageableDefault (size = 10, sort = "name")Pageable pageable) {
+
+        Page<Course> courses = courseRepository.findAllByActiveTrue(pageable);
+        if (!withStats) {
+            return courses.map(CourseListDTO::new);
+        }
+
+        // Estadísticas de toda la página en una sola consulta
+        Map<Long, CourseStatsDTO> stats = courseStatsRepository
+            .findAllById(courses.map(Course::getCourseId).toList()).stream()
+            .map(CourseStatsDTO::new)
+            .collect(Collectors.toMap(CourseStatsDTO::courseId, Function.identity()));
+        return courses.map(course -> new CourseListDTO(course, stats.getOrDefault(course.getCourseId(),
+            new CourseStatsDTO(course.getCourseId(), 0, 0, 0, 0, 0.0))));
+    }
+
+    @GetMapping("/{courseId}/stats")
+    public CourseStatsDTO getCourseStats(@PathVariable Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Curso no encontrado");
+        }
+        return courseStatsService.getStats(courseId);
+    }
+
+    @GetMapping("/{courseId}/top-answerers")
+    public List<TopAnswererDTO> getTopAnswerers(
+            @PathVariable Long courseId,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Curso no encontrado");
+        }
+        return userActivityService.getTopAnswerers(courseId, limit);
     }
 
     @Transactional
@@ -60,6 +120,7 @@ public class CourseController {
         return courseRepository.findById(updateData.courseId())
             .map(course -> {
                 course.updateData(updateData);
+                changeLogService.record(ChangeEntityType.COURSE, course.getCourseId(), ChangeOperation.UPDATE);
                 return ResponseEntity.ok(new CourseListDTO(course));
             })
             .orElse(ResponseEntity.notFound().build());
@@ -72,6 +133,7 @@ public class CourseController {
             .map(course -> {
                 try {
                     course.deactivate();
+                    changeLogService.record(ChangeEntityType.COURSE, courseId, ChangeOperation.DELETE);
                     return ResponseEntity.noContent().build();
                 } catch (IllegalStateException e) {
                     return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -4,6 +4,13 @@ import com.luiscm.forohub.exception.ResourceNotFoundException;
 import com.luiscm.forohub.model.*;
 import com.luiscm.forohub.model.dto.*;
 import com.luiscm.forohub.repository.*;
+import com.luiscm.forohub.service.ChangeLogService;
+import com.luiscm.forohub.service.CommitSequence;
+import com.luiscm.forohub.model.event.ReplyCreated;
+import com.luiscm.forohub.model.event.ReplyDeleted;
+import com.luiscm.forohub.model.event.SolutionMarked;
+import com.luiscm.forohub.service.DomainEventPublisher;
+import com.luiscm.forohub.service.MultiGetService;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/replies")
@@ -29,6 +37,18 @@ public class ReplyController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private MultiGetService multiGetService;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private CommitSequence commitSequence;
+
     @PostMapping
     @Transactional
     public ResponseEntity<ReplyDetailDTO> createReply(
@@ -43,6 +63,11 @@ public class ReplyController {
 
         Reply reply = new Reply(replyData.message(), topic, user);
         reply = replyRepository.save(reply);
+        // Los resúmenes de respuestas recorren replies por commit_seq
+        commitSequence.assignOnCommit(CommitSequence.Stream.REPLIES, reply.getReplyId());
+        changeLogService.record(ChangeEntityType.REPLY, reply.getReplyId(), ChangeOperation.CREATE);
+        domainEventPublisher.publish(new ReplyCreated(reply.getReplyId(), topic.getTopicId(),
+            topic.getUser().getId(), user.getId(), courseIdOf(reply), topic.isActive()));
         
         URI uri = uriBuilder.path("/replies/{id}").buildAndExpand(reply.getReplyId()).toUri();
         return ResponseEntity.created(uri).body(new ReplyDetailDTO(reply));
@@ -62,6 +87,11 @@ public class ReplyController {
             .map(ReplyDetailDTO::new);
     }
 
+    @GetMapping(params = "ids")
+    public MultiGetDTO<ReplyDetailDTO> getReplies(@RequestParam List<Long> ids) {
+        return multiGetService.resolve(ids, replyRepository::findAllById, Reply::getReplyId, ReplyDetailDTO::new);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ReplyDetailDTO> getReply(@PathVariable Long id) {
         return replyRepository.findById(id)
@@ -86,8 +116,11 @@ public class ReplyController {
                     } else {
                         reply.unmarkAsSolution();
                     }
+                    domainEventPublisher.publish(new SolutionMarked(reply.getReplyId(), reply.getTopic().getTopicId(),
+                        reply.getUser().getId(), courseIdOf(reply), updateData.solution()));
                 }
                 
+                changeLogService.record(ChangeEntityType.REPLY, reply.getReplyId(), ChangeOperation.UPDATE);
                 return ResponseEntity.ok(new ReplyDetailDTO(reply));
             })
             .orElse(ResponseEntity.notFound().build());
@@ -98,9 +131,19 @@ public class ReplyController {
     public ResponseEntity<Void> deleteReply(@PathVariable Long id) {
         return replyRepository.findById(id)
             .map(reply -> {
+                if (reply.isActive()) {
+                    domainEventPublisher.publish(new ReplyDeleted(id, reply.getTopic().getTopicId(),
+                        reply.getUser().getId(), courseIdOf(reply), reply.getTopic().isActive()));
+                }
                 reply.deactivate();
+                changeLogService.record(ChangeEntityType.REPLY, id, ChangeOperation.DELETE);
                 return ResponseEntity.noContent().<Void>build();
             })
             .orElse(ResponseEntity.notFound().build());
     }
+
+    private static Long courseIdOf(Reply reply) {
+        Course course = reply.getTopic().getCourse();
+        return course != null ? course.getCourseId() : null;
+    }
 }
\ No newline at end of file
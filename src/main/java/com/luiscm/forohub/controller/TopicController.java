@@ -1,8 +1,16 @@
 package com.luiscm.forohub.controller;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,22 +20,45 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 
+import com.luiscm.forohub.model.dto.MultiGetDTO;
 import com.luiscm.forohub.model.dto.TopicDetailDTO;
+import com.luiscm.forohub.model.dto.ReplyDetailDTO;
+import com.luiscm.forohub.model.dto.SimilarTopicDTO;
+import com.luiscm.forohub.model.dto.SimilarTopicsRequestDTO;
+import com.luiscm.forohub.model.dto.TopicFacetSearchDTO;
+import com.luiscm.forohub.model.dto.TopicThreadDTO;
 import com.luiscm.forohub.model.dto.TopicRegisterDTO;
 import com.luiscm.forohub.model.dto.TopicUpdateDTO;
 import com.luiscm.forohub.exception.ResourceNotFoundException;
+import com.luiscm.forohub.model.ChangeEntityType;
+import com.luiscm.forohub.model.ChangeOperation;
 import com.luiscm.forohub.model.Course;
+import com.luiscm.forohub.model.Reply;
+import com.luiscm.forohub.model.StatusTopic;
 import com.luiscm.forohub.model.Topic;
 import com.luiscm.forohub.model.User;
+import com.luiscm.forohub.model.event.TopicCreated;
+import com.luiscm.forohub.model.event.TopicDeleted;
+import com.luiscm.forohub.model.event.TopicStatusChanged;
+import com.luiscm.forohub.model.event.TopicUpdated;
 import com.luiscm.forohub.repository.CourseRepository;
+import com.luiscm.forohub.repository.ReplyRepository;
 import com.luiscm.forohub.repository.TopicRepository;
 import com.luiscm.forohub.repository.UserRepository;
+import com.luiscm.forohub.service.ChangeLogService;
+import com.luiscm.forohub.service.DomainEventPublisher;
+import com.luiscm.forohub.service.MultiGetService;
+import com.luiscm.forohub.service.ReadStateService;
+import com.luiscm.forohub.service.TagService;
+import com.luiscm.forohub.service.TopicFacetIndex;
+import com.luiscm.forohub.service.TopicSimilarityIndex;
 
 @RestController
 @RequestMapping("/topics")
@@ -42,6 +73,30 @@ public class TopicController {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private MultiGetService multiGetService;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TopicFacetIndex topicFacetIndex;
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    @Autowired
+    private ReadStateService readStateService;
+
+    @Autowired
+    private TopicSimilarityIndex topicSimilarityIndex;
+
     @Transactional
     @PostMapping
     public ResponseEntity<TopicDetailDTO> create(
@@ -59,13 +114,45 @@ public class TopicController {
                 .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
         }
         
+        // Posibles duplicados en el mismo curso, calculados antes de indexar el nuevo tema
+        var similar = topicSimilarityIndex.findSimilar(data.courseId(), data.title(), data.message());
+
         // Crear y guardar el tema
         Topic topic = new Topic(data, user, course);
+        if (data.tags() != null) {
+            topic.setTags(tagService.resolve(data.tags()));
+        }
         topic = topicRepository.save(topic);
+        changeLogService.record(ChangeEntityType.TOPIC, topic.getTopicId(), ChangeOperation.CREATE);
+        domainEventPublisher.publish(new TopicCreated(topic.getTopicId(), user.getId(), courseIdOf(topic),
+            topic.getStatus()));
         
         // Construir la respuesta
         var uri = uriBuilder.path("/topics/{topicId}").buildAndExpand(topic.getTopicId()).toUri();
-        return ResponseEntity.created(uri).body(new TopicDetailDTO(topic));
+        var response = ResponseEntity.created(uri);
+        if (!similar.isEmpty()) {
+            response.header("X-Similar-Topics", similar.stream()
+                .map(match -> String.valueOf(match.topicId()))
+                .collect(Collectors.joining(",")));
+        }
+        return response.body(new TopicDetailDTO(topic));
+    }
+
+    @PostMapping("/similar")
+    public List<SimilarTopicDTO> findSimilarTopics(@RequestBody @Valid SimilarTopicsRequestDTO data) {
+        var matches = topicSimilarityIndex.findSimilar(data.courseId(), data.title(), data.message());
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Topic> topics = topicRepository.findAllById(
+                matches.stream().map(TopicSimilarityIndex.Match::topicId).toList()).stream()
+            .collect(Collectors.toMap(Topic::getTopicId, Function.identity()));
+        return matches.stream()
+            .filter(match -> topics.containsKey(match.topicId()))
+            .map(match -> new SimilarTopicDTO(match.topicId(), topics.get(match.topicId()).getTitle(),
+                match.similarity()))
+            .toList();
     }
 
     @GetMapping
@@ -73,6 +160,40 @@ public class TopicController {
         return topicRepository.findAll(pageable).map(TopicDetailDTO::new);
     }
 
+    @GetMapping(params = "ids")
+    public MultiGetDTO<TopicDetailDTO> getTopics(@RequestParam List<Long> ids) {
+        return multiGetService.resolve(ids, topicRepository::findAllById, Topic::getTopicId, TopicDetailDTO::new);
+    }
+
+    @GetMapping("/search")
+    public TopicFacetSearchDTO searchTopics(
+            @RequestParam(required = false) Set<String> tags,
+            @RequestParam(defaultValue = "all") String match,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) StatusTopic status,
+            @RequestParam(defaultValue = "false") boolean includeInactive,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        int boundedPage = Math.max(page, 0);
+        int boundedSize = Math.max(1, Math.min(size, 100));
+        var query = new TopicFacetIndex.Query(tags != null ? TagService.normalize(tags) : null,
+            !"any".equalsIgnoreCase(match), courseId, status, includeInactive);
+        var result = topicFacetIndex.search(query, boundedPage, boundedSize);
+
+        // El índice decide qué tópicos van en la página; la base de datos solo carga esos
+        Map<Long, Topic> topics = topicRepository.findAllById(result.topicIds()).stream()
+            .collect(Collectors.toMap(Topic::getTopicId, Function.identity()));
+        List<TopicDetailDTO> content = result.topicIds().stream()
+            .map(topics::get)
+            .filter(topic -> topic != null)
+            .map(TopicDetailDTO::new)
+            .toList();
+
+        return new TopicFacetSearchDTO(content, result.total(), boundedPage, boundedSize,
+            result.tagFacets(), result.statusFacets(), result.courseFacets());
+    }
+
     @GetMapping("/{topicId}")
     public TopicDetailDTO getTopic(@PathVariable Long topicId) {
         return topicRepository.findById(topicId)
@@ -80,18 +201,58 @@ public class TopicController {
             .orElseThrow(() -> new ResourceNotFoundException("Tópico no encontrado"));
     }
 
+    @GetMapping("/{topicId}/thread")
+    public TopicThreadDTO getThread(
+            @PathVariable Long topicId,
+            @RequestParam(required = false) Long userId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable) {
+
+        var topic = topicRepository.findById(topicId)
+            .map(TopicDetailDTO::new)
+            .orElseThrow(() -> new ResourceNotFoundException("Tópico no encontrado"));
+        Page<Reply> page = replyRepository.findByTopicTopicId(topicId, pageable);
+
+        // La marca de lectura avanza hasta la respuesta mostrada con el commit_seq más alto
+        if (userId != null) {
+            page.stream()
+                .filter(reply -> reply.getCommitSeq() != null)
+                .max(Comparator.comparingLong(Reply::getCommitSeq))
+                .ifPresent(last -> readStateService.markRead(userId, topicId, last.getReplyId(),
+                    last.getCommitSeq()));
+        }
+        return new TopicThreadDTO(topic, page.map(ReplyDetailDTO::new));
+    }
+
     @Transactional
     @PutMapping
     public void updateTopic(@RequestBody @Valid TopicUpdateDTO topicData) {
         var topic = topicRepository.getReferenceById(topicData.topicId());
+        var previousStatus = topic.getStatus();
         topic.updateData(topicData);
+        if (topicData.tags() != null) {
+            topic.setTags(tagService.resolve(topicData.tags()));
+        }
+        if (topic.isActive() && previousStatus != topic.getStatus()) {
+            domainEventPublisher.publish(new TopicStatusChanged(topic.getTopicId(), courseIdOf(topic),
+                previousStatus, topic.getStatus()));
+        }
+        domainEventPublisher.publish(new TopicUpdated(topic.getTopicId(), courseIdOf(topic)));
+        changeLogService.record(ChangeEntityType.TOPIC, topicData.topicId(), ChangeOperation.UPDATE);
     }
 
     @Transactional
     @DeleteMapping("/{topicId}")
     public void deleteTopic(@PathVariable Long topicId) {
         var topic = topicRepository.getReferenceById(topicId);
+        if (topic.isActive()) {
+            domainEventPublisher.publish(new TopicDeleted(topicId, topic.getUser().getId(), courseIdOf(topic),
+                topic.getStatus(), replyRepository.countByTopicTopicIdAndActiveTrue(topicId)));
+        }
         topic.deleteTopic();
+        changeLogService.record(ChangeEntityType.TOPIC, topicId, ChangeOperation.DELETE);
     }
 
+    private static Long courseIdOf(Topic topic) {
+        return topic.getCourse() != null ? topic.getCourse().getCourseId() : null;
+    }
 }
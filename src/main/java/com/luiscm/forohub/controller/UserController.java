@@ -1,5 +1,7 @@
 package com.luiscm.forohub.controller;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,16 +14,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
 
+import com.luiscm.forohub.model.dto.MultiGetDTO;
+import com.luiscm.forohub.model.dto.UnreadSummaryDTO;
+import com.luiscm.forohub.model.dto.UserActivityDTO;
 import com.luiscm.forohub.model.dto.UserListDTO;
 import com.luiscm.forohub.model.dto.UserRegisterDTO;
 import com.luiscm.forohub.model.dto.UserUpdateDTO;
+import com.luiscm.forohub.exception.InvalidRequestException;
 import com.luiscm.forohub.exception.ResourceNotFoundException;
+import com.luiscm.forohub.model.ChangeEntityType;
+import com.luiscm.forohub.model.ChangeOperation;
 import com.luiscm.forohub.model.User;
+import com.luiscm.forohub.model.event.UserDeactivated;
 import com.luiscm.forohub.repository.UserRepository;
+import com.luiscm.forohub.service.ChangeLogService;
+import com.luiscm.forohub.service.DomainEventPublisher;
+import com.luiscm.forohub.service.MultiGetService;
+import com.luiscm.forohub.service.ReadStateService;
+import com.luiscm.forohub.service.UserActivityService;
 
 
 @RestController
@@ -31,10 +46,26 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private MultiGetService multiGetService;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private ReadStateService readStateService;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
     @Transactional
     @PostMapping
     public UserRegisterDTO createUser(@RequestBody @Valid UserRegisterDTO userData) {
-        userRepository.save(new User(userData));
+        var user = userRepository.save(new User(userData));
+        changeLogService.record(ChangeEntityType.USER, user.getId(), ChangeOperation.CREATE);
         return userData;
     }
 
@@ -43,6 +74,11 @@ public class UserController {
         return userRepository.findAllByActiveTrue(pageable).map(UserListDTO::new);
     }
 
+    @GetMapping(params = "ids")
+    public MultiGetDTO<UserListDTO> getUsers(@RequestParam List<Long> ids) {
+        return multiGetService.resolve(ids, userRepository::findAllById, User::getId, UserListDTO::new);
+    }
+
     @GetMapping("/{id}")
     public UserListDTO getUser(@PathVariable Long id) {
         return userRepository.findById(id)
@@ -50,17 +86,41 @@ public class UserController {
             .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
     }
 
+    @GetMapping("/{id}/activity")
+    public UserActivityDTO getUserActivity(@PathVariable Long id) {
+        return userActivityService.getActivity(id);
+    }
+
+    @GetMapping("/{id}/unread")
+    public UnreadSummaryDTO getUnread(
+            @PathVariable Long id,
+            @RequestParam(required = false) List<Long> topicIds) {
+
+        if (topicIds != null && !topicIds.isEmpty()) {
+            if (topicIds.size() > 100) {
+                throw new InvalidRequestException("Se admiten como máximo 100 tópicos por petición");
+            }
+            return readStateService.unreadForTopics(id, topicIds);
+        }
+        return readStateService.unreadForUser(id);
+    }
+
     @Transactional
     @PutMapping
     public void updateUser(@RequestBody @Valid UserUpdateDTO userData) {
         var user = userRepository.getReferenceById(userData.id());
         user.updateData(userData);
+        changeLogService.record(ChangeEntityType.USER, userData.id(), ChangeOperation.UPDATE);
     }
 
     @Transactional
     @DeleteMapping("/{id}")
     public void deleteUser(@PathVariable Long id) {
         var user = userRepository.getReferenceById(id);
+        if (user.isActive()) {
+            domainEventPublisher.publish(new UserDeactivated(id));
+        }
         user.deleteUser();
+        changeLogService.record(ChangeEntityType.USER, id, ChangeOperation.DELETE);
     }
 }
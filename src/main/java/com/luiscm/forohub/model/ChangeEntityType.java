@@ -0,0 +1,8 @@
+package com.luiscm.forohub.model;
+
+public enum ChangeEntityType {
+    TOPIC,
+    REPLY,
+    USER,
+    COURSE
+}
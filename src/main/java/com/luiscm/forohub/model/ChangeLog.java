@@ -0,0 +1,53 @@
+package com.luiscm.forohub.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = {"changeId"})
+@Entity
+@Table(name = "change_log")
+public class ChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    // Posición en orden de commit; la asigna CommitSequence antes de confirmar
+    @Column(name = "commit_seq", insertable = false, updatable = false)
+    private Long commitSeq;
+
+    // Lo asigna la base de datos para que el feed compare con su propio reloj
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ChangeLog(ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,7 @@
+package com.luiscm.forohub.model;
+
+public enum ChangeOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+}
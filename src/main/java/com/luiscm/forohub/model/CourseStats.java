@@ -0,0 +1,43 @@
+package com.luiscm.forohub.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Contadores por curso mantenidos de forma incremental (ver CourseStatsService)
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = {"courseId"})
+@Entity
+@Table(name = "course_stats")
+public class CourseStats {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "topic_count", nullable = false)
+    private long topicCount;
+
+    @Column(name = "open_topic_count", nullable = false)
+    private long openTopicCount;
+
+    @Column(name = "solved_topic_count", nullable = false)
+    private long solvedTopicCount;
+
+    @Column(name = "reply_count", nullable = false)
+    private long replyCount;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    public CourseStats(Long courseId) {
+        this.courseId = courseId;
+    }
+}
@@ -31,6 +31,10 @@ public class Reply {
     @Column(nullable = false)
     private boolean active = true;
     
+    // Lo asigna CommitSequence al confirmar la transacción que crea la respuesta
+    @Column(name = "commit_seq", insertable = false, updatable = false)
+    private Long commitSeq;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "topic_id", nullable = false)
     private Topic topic;
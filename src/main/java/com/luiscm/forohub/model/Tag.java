@@ -0,0 +1,37 @@
+package com.luiscm.forohub.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = {"tagId"})
+@Entity
+@Table(name = "tags")
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+
+    public Tag(String name) {
+        this.name = name;
+    }
+
+    // Referencia a una fila ya insertada, sin volver a leerla
+    public Tag(Long tagId, String name) {
+        this.tagId = tagId;
+        this.name = name;
+    }
+}
@@ -3,7 +3,9 @@ package com.luiscm.forohub.model;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.luiscm.forohub.model.dto.TopicRegisterDTO;
 import com.luiscm.forohub.model.dto.TopicUpdateDTO;
@@ -13,6 +15,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -68,6 +72,13 @@ public class Topic {
 
     @OneToMany(mappedBy = "topic", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Reply> replies = new ArrayList<>();
+
+    @ManyToMany
+    @JoinTable(
+        name = "topic_tags",
+        joinColumns = @JoinColumn(name = "topic_id"),
+        inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    private Set<Tag> tags = new HashSet<>();
     
     public Topic(TopicRegisterDTO topicData, User user, Course course) {
         this.title = topicData.title();
@@ -90,6 +101,11 @@ public class Topic {
         }
     }
 
+    public void setTags(Set<Tag> tags) {
+        this.tags.clear();
+        this.tags.addAll(tags);
+    }
+
     public void setCourse(Course course) {
         this.course = course;
     }
@@ -0,0 +1,40 @@
+package com.luiscm.forohub.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Marca de lectura por (usuario, tópico): la última respuesta leída en orden de commit, no una fila
+// por respuesta
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = {"userId", "topicId"})
+@Entity
+@IdClass(TopicReadStateId.class)
+@Table(name = "topic_read_state")
+public class TopicReadState {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "topic_id")
+    private Long topicId;
+
+    @Column(name = "last_read_reply_id", nullable = false)
+    private long lastReadReplyId;
+
+    @Column(name = "last_read_commit_seq", nullable = false)
+    private long lastReadCommitSeq;
+
+    @Column(name = "read_at", insertable = false, updatable = false)
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,15 @@
+package com.luiscm.forohub.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TopicReadStateId implements Serializable {
+    private Long userId;
+    private Long topicId;
+}
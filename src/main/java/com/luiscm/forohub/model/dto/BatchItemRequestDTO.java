@@ -0,0 +1,14 @@
+package com.luiscm.forohub.model.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record BatchItemRequestDTO(
+    String id,
+    @NotBlank String method,
+    @NotBlank String path,
+    JsonNode body
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.luiscm.forohub.model.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record BatchItemResponseDTO(
+    String id,
+    int status,
+    Map<String, String> headers,
+    JsonNode body
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.luiscm.forohub.model.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record BatchRequestDTO(
+    @NotEmpty @Size(max = 20) List<@Valid BatchItemRequestDTO> requests,
+    boolean readOnlyTransaction
+) {
+
+}
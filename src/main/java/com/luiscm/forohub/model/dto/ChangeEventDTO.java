@@ -0,0 +1,27 @@
+package com.luiscm.forohub.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.luiscm.forohub.model.ChangeEntityType;
+import com.luiscm.forohub.model.ChangeLog;
+import com.luiscm.forohub.model.ChangeOperation;
+
+public record ChangeEventDTO(
+    Long changeId,
+    Long commitSeq,
+    ChangeEntityType entityType,
+    Long entityId,
+    ChangeOperation operation,
+    LocalDateTime createdAt
+) {
+    public ChangeEventDTO(ChangeLog change) {
+        this(
+            change.getChangeId(),
+            change.getCommitSeq(),
+            change.getEntityType(),
+            change.getEntityId(),
+            change.getOperation(),
+            change.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.luiscm.forohub.model.dto;
+
+import java.util.List;
+
+public record ChangeFeedDTO(
+    List<ChangeEventDTO> changes,
+    long nextCursor,
+    boolean hasMore
+) {
+
+}
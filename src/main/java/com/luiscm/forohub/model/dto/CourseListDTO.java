@@ -2,6 +2,7 @@ package com.luiscm.forohub.model.dto;
 
 import java.time.format.DateTimeFormatter;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.luiscm.forohub.model.Course;
 
 public record CourseListDTO(
@@ -9,19 +10,25 @@ public record CourseListDTO(
     String name,
     String category,
     boolean active,
-    String createdAt
+    String createdAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL) CourseStatsDTO stats
     
 ) {
     private static final DateTimeFormatter formatter = 
         DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
     public CourseListDTO(Course course) {
+        this(course, null);
+    }
+
+    public CourseListDTO(Course course, CourseStatsDTO stats) {
         this(
             course.getCourseId(),
             course.getName(),
             course.getCategory(),
             course.isActive(),
-            course.getCreatedAt() != null ? course.getCreatedAt().format(formatter) : "No disponible"
+            course.getCreatedAt() != null ? course.getCreatedAt().format(formatter) : "No disponible",
+            stats
         );
     }
 
@@ -0,0 +1,25 @@
+package com.luiscm.forohub.model.dto;
+
+import com.luiscm.forohub.model.CourseStats;
+
+public record CourseStatsDTO(
+    Long courseId,
+    long topics,
+    long openTopics,
+    long solvedTopics,
+    long replies,
+    double solvedPercentage
+) {
+    public CourseStatsDTO(CourseStats stats) {
+        this(
+            stats.getCourseId(),
+            stats.getTopicCount(),
+            stats.getOpenTopicCount(),
+            stats.getSolvedTopicCount(),
+            stats.getReplyCount(),
+            stats.getTopicCount() > 0
+                ? Math.round(stats.getSolvedTopicCount() * 1000.0 / stats.getTopicCount()) / 10.0
+                : 0.0
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.luiscm.forohub.model.dto;
+
+import java.util.List;
+
+// Resultados en el mismo orden que los ids pedidos (null si no existe) y la lista de ids no encontrados
+public record MultiGetDTO<T>(
+    List<T> results,
+    List<Long> missing
+) {
+
+}
@@ -0,0 +1,9 @@
+package com.luiscm.forohub.model.dto;
+
+public record SimilarTopicDTO(
+    Long topicId,
+    String title,
+    double similarity
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.luiscm.forohub.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record SimilarTopicsRequestDTO(
+    @NotBlank String title,
+    @NotBlank String message,
+    Long courseId
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.luiscm.forohub.model.dto;
+
+public record TopAnswererDTO(
+    Long userId,
+    String name,
+    long acceptedSolutions,
+    long replies
+) {
+
+}
@@ -1,8 +1,12 @@
 package com.luiscm.forohub.model.dto;
 
 import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.Tag;
 import com.luiscm.forohub.model.Topic;
 
 public record TopicDetailDTO(
@@ -12,7 +16,8 @@ public record TopicDetailDTO(
     StatusTopic status,
     LocalDateTime createdAt,
     Long userId,
-    Long courseId
+    Long courseId,
+    Set<String> tags
 ) {
     public TopicDetailDTO(Topic topic) {
         this(
@@ -22,7 +27,8 @@ public record TopicDetailDTO(
             topic.getStatus(),
             topic.getCreatedAt(),
             topic.getUser().getId(),
-            topic.getCourse() != null ? topic.getCourse().getCourseId() : null
+            topic.getCourse() != null ? topic.getCourse().getCourseId() : null,
+            topic.getTags().stream().map(Tag::getName).collect(Collectors.toCollection(TreeSet::new))
         );
     }
 }
@@ -0,0 +1,18 @@
+package com.luiscm.forohub.model.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.luiscm.forohub.model.StatusTopic;
+
+public record TopicFacetSearchDTO(
+    List<TopicDetailDTO> topics,
+    long totalElements,
+    int page,
+    int size,
+    Map<String, Integer> tagFacets,
+    Map<StatusTopic, Integer> statusFacets,
+    Map<Long, Integer> courseFacets
+) {
+
+}
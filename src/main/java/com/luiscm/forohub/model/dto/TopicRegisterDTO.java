@@ -1,13 +1,17 @@
 package com.luiscm.forohub.model.dto;
 
+import java.util.Set;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 public record TopicRegisterDTO (
 
     @NotBlank String title,
     @NotBlank String message,
     @NotNull Long userId,
-    Long courseId
+    Long courseId,
+    @Size(max = 10) Set<@NotBlank @Size(max = 50) String> tags
 ) {
 }
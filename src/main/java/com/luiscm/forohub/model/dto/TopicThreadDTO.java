@@ -0,0 +1,10 @@
+package com.luiscm.forohub.model.dto;
+
+import org.springframework.data.domain.Page;
+
+public record TopicThreadDTO(
+    TopicDetailDTO topic,
+    Page<ReplyDetailDTO> replies
+) {
+
+}
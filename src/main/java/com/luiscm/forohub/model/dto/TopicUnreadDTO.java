@@ -0,0 +1,9 @@
+package com.luiscm.forohub.model.dto;
+
+public record TopicUnreadDTO(
+    Long topicId,
+    long lastReadReplyId,
+    long unread
+) {
+
+}
@@ -1,12 +1,18 @@
 package com.luiscm.forohub.model.dto;
 
+import java.util.Set;
+
 import com.luiscm.forohub.model.StatusTopic;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
 public record TopicUpdateDTO(
     Long topicId,
     String title,
     String message,
-    StatusTopic status
+    StatusTopic status,
+    @Size(max = 10) Set<@NotBlank @Size(max = 50) String> tags
 ) {
 
 }
@@ -0,0 +1,11 @@
+package com.luiscm.forohub.model.dto;
+
+import java.util.List;
+
+public record UnreadSummaryDTO(
+    Long userId,
+    long totalUnread,
+    List<TopicUnreadDTO> topics
+) {
+
+}
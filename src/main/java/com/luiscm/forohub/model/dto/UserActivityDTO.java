@@ -0,0 +1,13 @@
+package com.luiscm.forohub.model.dto;
+
+import java.time.LocalDateTime;
+
+public record UserActivityDTO(
+    Long userId,
+    long topics,
+    long replies,
+    long acceptedSolutions,
+    LocalDateTime lastActivity
+) {
+
+}
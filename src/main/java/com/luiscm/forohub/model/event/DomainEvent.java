@@ -0,0 +1,7 @@
+package com.luiscm.forohub.model.event;
+
+// Hechos ocurridos en una escritura; se guardan en outbox_events en la misma transacción
+public sealed interface DomainEvent
+    permits TopicCreated, TopicUpdated, TopicStatusChanged, TopicDeleted,
+            ReplyCreated, ReplyDeleted, SolutionMarked, UserDeactivated {
+}
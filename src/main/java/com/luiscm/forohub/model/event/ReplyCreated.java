@@ -0,0 +1,12 @@
+package com.luiscm.forohub.model.event;
+
+public record ReplyCreated(
+    Long replyId,
+    Long topicId,
+    Long topicAuthorId,
+    Long userId,
+    Long courseId,
+    boolean topicActive
+) implements DomainEvent {
+
+}
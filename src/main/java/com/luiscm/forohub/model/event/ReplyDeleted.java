@@ -0,0 +1,11 @@
+package com.luiscm.forohub.model.event;
+
+public record ReplyDeleted(
+    Long replyId,
+    Long topicId,
+    Long userId,
+    Long courseId,
+    boolean topicActive
+) implements DomainEvent {
+
+}
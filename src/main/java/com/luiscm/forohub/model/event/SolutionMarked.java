@@ -0,0 +1,12 @@
+package com.luiscm.forohub.model.event;
+
+// solution = false cuando la respuesta deja de ser la solución
+public record SolutionMarked(
+    Long replyId,
+    Long topicId,
+    Long userId,
+    Long courseId,
+    boolean solution
+) implements DomainEvent {
+
+}
@@ -0,0 +1,12 @@
+package com.luiscm.forohub.model.event;
+
+import com.luiscm.forohub.model.StatusTopic;
+
+public record TopicCreated(
+    Long topicId,
+    Long userId,
+    Long courseId,
+    StatusTopic status
+) implements DomainEvent {
+
+}
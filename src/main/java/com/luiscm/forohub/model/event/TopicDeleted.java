@@ -0,0 +1,13 @@
+package com.luiscm.forohub.model.event;
+
+import com.luiscm.forohub.model.StatusTopic;
+
+public record TopicDeleted(
+    Long topicId,
+    Long userId,
+    Long courseId,
+    StatusTopic status,
+    long activeReplies
+) implements DomainEvent {
+
+}
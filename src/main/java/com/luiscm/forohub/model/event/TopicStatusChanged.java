@@ -0,0 +1,12 @@
+package com.luiscm.forohub.model.event;
+
+import com.luiscm.forohub.model.StatusTopic;
+
+public record TopicStatusChanged(
+    Long topicId,
+    Long courseId,
+    StatusTopic previous,
+    StatusTopic current
+) implements DomainEvent {
+
+}
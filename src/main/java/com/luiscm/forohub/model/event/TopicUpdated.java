@@ -0,0 +1,9 @@
+package com.luiscm.forohub.model.event;
+
+// Cambio de título, mensaje, estado o etiquetas
+public record TopicUpdated(
+    Long topicId,
+    Long courseId
+) implements DomainEvent {
+
+}
@@ -0,0 +1,7 @@
+package com.luiscm.forohub.model.event;
+
+public record UserDeactivated(
+    Long userId
+) implements DomainEvent {
+
+}
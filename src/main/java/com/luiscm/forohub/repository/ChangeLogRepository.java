@@ -0,0 +1,29 @@
+package com.luiscm.forohub.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.luiscm.forohub.model.ChangeLog;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    // Eventos antiguos que ya tienen un evento posterior para la misma entidad
+    @Query(value = """
+            SELECT c.change_id FROM change_log c
+            WHERE c.created_at < :before
+              AND EXISTS (
+                  SELECT 1 FROM change_log n
+                  WHERE n.entity_type = c.entity_type
+                    AND n.entity_id = c.entity_id
+                    AND n.commit_seq > c.commit_seq)
+            ORDER BY c.commit_seq
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findSupersededChangeIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
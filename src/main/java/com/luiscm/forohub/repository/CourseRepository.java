@@ -1,10 +1,13 @@
 package com.luiscm.forohub.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.luiscm.forohub.model.Course;
@@ -18,4 +21,7 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 
     Optional<Course> findByCourseIdAndActiveTrue(Long courseId);
 
+    @Query("SELECT c.courseId FROM Course c WHERE c.courseId > :after ORDER BY c.courseId")
+    List<Long> findCourseIdsAfter(@Param("after") Long after, Pageable pageable);
+
 }
@@ -0,0 +1,56 @@
+package com.luiscm.forohub.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.luiscm.forohub.model.CourseStats;
+
+@Repository
+public interface CourseStatsRepository extends JpaRepository<CourseStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO course_stats (course_id, topic_count, open_topic_count, solved_topic_count, reply_count)
+            VALUES (:courseId, GREATEST(:topics, 0), GREATEST(:open, 0), GREATEST(:solved, 0), GREATEST(:replies, 0))
+            ON DUPLICATE KEY UPDATE
+                topic_count = GREATEST(topic_count + :topics, 0),
+                open_topic_count = GREATEST(open_topic_count + :open, 0),
+                solved_topic_count = GREATEST(solved_topic_count + :solved, 0),
+                reply_count = GREATEST(reply_count + :replies, 0)
+            """, nativeQuery = true)
+    void increment(@Param("courseId") Long courseId,
+                   @Param("topics") long topics,
+                   @Param("open") long open,
+                   @Param("solved") long solved,
+                   @Param("replies") long replies);
+
+    // Recalcula desde cero los contadores de un bloque de cursos
+    @Modifying
+    @Query(value = """
+            INSERT INTO course_stats (course_id, topic_count, open_topic_count, solved_topic_count, reply_count)
+            SELECT * FROM (
+                SELECT c.course_id,
+                       COUNT(t.topic_id) AS topics,
+                       COALESCE(SUM(t.status IN ('NO_RESPONSE', 'NO_SOLUTION')), 0) AS open_topics,
+                       COALESCE(SUM(t.status = 'SOLVED'), 0) AS solved_topics,
+                       (SELECT COUNT(*) FROM replies r
+                            JOIN topics rt ON rt.topic_id = r.topic_id
+                        WHERE rt.course_id = c.course_id AND rt.active AND r.active) AS replies
+                FROM courses c
+                LEFT JOIN topics t ON t.course_id = c.course_id AND t.active
+                WHERE c.course_id IN (:courseIds)
+                GROUP BY c.course_id
+            ) AS fresh
+            ON DUPLICATE KEY UPDATE
+                topic_count = fresh.topics,
+                open_topic_count = fresh.open_topics,
+                solved_topic_count = fresh.solved_topics,
+                reply_count = fresh.replies
+            """, nativeQuery = true)
+    void recompute(@Param("courseIds") List<Long> courseIds);
+}
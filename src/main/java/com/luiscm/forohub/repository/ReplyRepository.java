@@ -9,4 +9,6 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
     Page<Reply> findByTopicTopicId(Long topicId, Pageable pageable);
+
+    long countByTopicTopicIdAndActiveTrue(Long topicId);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.luiscm.forohub.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.luiscm.forohub.model.Tag;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+}
@@ -0,0 +1,66 @@
+package com.luiscm.forohub.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.luiscm.forohub.model.TopicReadState;
+import com.luiscm.forohub.model.TopicReadStateId;
+
+@Repository
+public interface TopicReadStateRepository extends JpaRepository<TopicReadState, TopicReadStateId> {
+
+    // La marca es un commit_seq: una respuesta que se confirma tarde con un reply_id menor queda
+    // por encima de ella. "topic_id = ? AND commit_seq > marca" es un rango sobre
+    // idx_replies_topic_commit_seq. Los tópicos sin pendientes también devuelven su marca
+    String UNREAD_FOR_TOPICS = """
+            SELECT t.topic_id AS topicId,
+                   COALESCE(s.last_read_reply_id, 0) AS lastReadReplyId,
+                   (SELECT COUNT(*) FROM replies r
+                    WHERE r.topic_id = t.topic_id
+                      AND r.commit_seq > COALESCE(s.last_read_commit_seq, 0)
+                      AND r.active) AS unread
+            FROM topics t
+            LEFT JOIN topic_read_state s ON s.topic_id = t.topic_id AND s.user_id = :userId
+            WHERE t.topic_id IN (:topicIds)
+            """;
+
+    String UNREAD_FOR_USER = """
+            SELECT s.topic_id AS topicId,
+                   s.last_read_reply_id AS lastReadReplyId,
+                   COUNT(r.reply_id) AS unread
+            FROM topic_read_state s
+            JOIN replies r ON r.topic_id = s.topic_id AND r.commit_seq > s.last_read_commit_seq AND r.active
+            WHERE s.user_id = :userId
+            GROUP BY s.topic_id, s.last_read_reply_id
+            ORDER BY unread DESC
+            LIMIT :limit
+            """;
+
+    // last_read_reply_id se asigna antes que last_read_commit_seq: compara con la marca anterior
+    String UPSERT_WATERMARK = """
+            INSERT INTO topic_read_state (user_id, topic_id, last_read_reply_id, last_read_commit_seq)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                last_read_reply_id = IF(VALUES(last_read_commit_seq) > last_read_commit_seq,
+                                        VALUES(last_read_reply_id), last_read_reply_id),
+                last_read_commit_seq = GREATEST(last_read_commit_seq, VALUES(last_read_commit_seq)),
+                read_at = CURRENT_TIMESTAMP(3)
+            """;
+
+    interface UnreadView {
+        Long getTopicId();
+        Long getLastReadReplyId();
+        Long getUnread();
+    }
+
+    @Query(value = UNREAD_FOR_TOPICS, nativeQuery = true)
+    List<UnreadView> countUnreadForTopics(@Param("userId") Long userId, @Param("topicIds") Collection<Long> topicIds);
+
+    @Query(value = UNREAD_FOR_USER, nativeQuery = true)
+    List<UnreadView> countUnreadForUser(@Param("userId") Long userId, @Param("limit") int limit);
+}
@@ -1,6 +1,11 @@
 package com.luiscm.forohub.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.luiscm.forohub.model.Topic;
@@ -8,4 +13,13 @@ import com.luiscm.forohub.model.Topic;
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, Long> {
 
+    // Con curso y etiquetas ya cargados: se usan fuera de la transacción
+    @Query("""
+            SELECT DISTINCT t FROM Topic t
+            LEFT JOIN FETCH t.course
+            LEFT JOIN FETCH t.tags
+            WHERE t.topicId IN :topicIds
+            """)
+    List<Topic> findWithTagsByTopicIdIn(@Param("topicIds") Collection<Long> topicIds);
+
 }
@@ -1,9 +1,13 @@
 package com.luiscm.forohub.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.luiscm.forohub.model.User;
@@ -13,4 +17,47 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Page<User> findAllByActiveTrue(Pageable pageable);
 
+    interface ActivityView {
+        Long getTopics();
+        Long getReplies();
+        Long getSolutions();
+        LocalDateTime getLastActivity();
+    }
+
+    interface AnswererView {
+        Long getUserId();
+        String getName();
+        Long getSolutions();
+        Long getReplies();
+    }
+
+    // Una sola consulta agregada; no inicializa las colecciones topics/replies del usuario
+    @Query(value = """
+            SELECT COALESCE(SUM(a.topics), 0) AS topics,
+                   COALESCE(SUM(a.replies), 0) AS replies,
+                   COALESCE(SUM(a.solutions), 0) AS solutions,
+                   MAX(a.last_activity) AS lastActivity
+            FROM (
+                SELECT COUNT(*) AS topics, 0 AS replies, 0 AS solutions, MAX(created_at) AS last_activity
+                FROM topics WHERE user_id = :userId AND active
+                UNION ALL
+                SELECT 0, COUNT(*), COALESCE(SUM(solution), 0), MAX(created_at)
+                FROM replies WHERE user_id = :userId AND active
+            ) a
+            """, nativeQuery = true)
+    ActivityView findActivity(@Param("userId") Long userId);
+
+    @Query(value = """
+            SELECT r.user_id AS userId, u.name AS name,
+                   SUM(r.solution) AS solutions, COUNT(*) AS replies
+            FROM replies r
+            JOIN topics t ON t.topic_id = r.topic_id
+            JOIN users u ON u.id = r.user_id
+            WHERE t.course_id = :courseId AND t.active AND r.active
+            GROUP BY r.user_id, u.name
+            ORDER BY solutions DESC, replies DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<AnswererView> findTopAnswerers(@Param("courseId") Long courseId, @Param("limit") int limit);
+
 }
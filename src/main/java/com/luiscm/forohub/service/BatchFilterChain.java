@@ -0,0 +1,34 @@
+package com.luiscm.forohub.service;
+
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+// Recorre los mismos filtros que una petición normal (límite de concurrencia,
+// idempotencia, micro-caché...) antes de llegar al DispatcherServlet
+class BatchFilterChain implements FilterChain {
+
+    private final List<Filter> filters;
+    private final Servlet servlet;
+    private int position;
+
+    BatchFilterChain(List<Filter> filters, Servlet servlet) {
+        this.filters = filters;
+        this.servlet = servlet;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+        if (position < filters.size()) {
+            filters.get(position++).doFilter(request, response, this);
+            return;
+        }
+        servlet.service(request, response);
+    }
+}
@@ -0,0 +1,198 @@
+package com.luiscm.forohub.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.AbstractFilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.luiscm.forohub.exception.InvalidRequestException;
+import com.luiscm.forohub.model.dto.BatchItemRequestDTO;
+import com.luiscm.forohub.model.dto.BatchItemResponseDTO;
+import com.luiscm.forohub.model.dto.BatchRequestDTO;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Service
+public class BatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchService.class);
+    private static final Set<String> ROUTABLE_RESOURCES = Set.of("/users", "/courses", "/topics", "/replies");
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "DELETE");
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    @Autowired
+    private ThreadPoolTaskExecutor batchExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ListableBeanFactory beanFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private volatile List<Filter> filters;
+
+    public List<BatchItemResponseDTO> execute(BatchRequestDTO batch, HttpServletRequest request,
+                                              HttpServletResponse response) {
+        batch.requests().forEach(this::validate);
+
+        if (batch.readOnlyTransaction()) {
+            if (batch.requests().stream().anyMatch(item -> !isRead(item))) {
+                throw new InvalidRequestException("readOnlyTransaction solo admite sub-peticiones GET");
+            }
+            // Una transacción está ligada a un hilo: compartirla implica ejecutar en secuencia
+            var template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            return template.execute(status -> batch.requests().stream()
+                .map(item -> dispatch(item, subRequest(item, request), response))
+                .toList());
+        }
+
+        List<BatchItemResponseDTO> results = new ArrayList<>();
+        List<CompletableFuture<BatchItemResponseDTO>> pendingReads = new ArrayList<>();
+
+        // Lecturas consecutivas en paralelo; cada escritura actúa como barrera y respeta el orden.
+        // La sub-petición se construye en este hilo: el contenedor no admite leer su petición desde otro
+        for (BatchItemRequestDTO item : batch.requests()) {
+            BatchSubRequest subRequest = subRequest(item, request);
+            if (isRead(item)) {
+                pendingReads.add(CompletableFuture.supplyAsync(() -> dispatch(item, subRequest, response),
+                    batchExecutor));
+                continue;
+            }
+            pendingReads.forEach(read -> results.add(read.join()));
+            pendingReads.clear();
+
+            results.add(dispatch(item, subRequest, response));
+        }
+        pendingReads.forEach(read -> results.add(read.join()));
+        return results;
+    }
+
+    private void validate(BatchItemRequestDTO item) {
+        String method = item.method().toUpperCase();
+        if (!METHODS.contains(method)) {
+            throw new InvalidRequestException("Método no soportado en /batch: " + item.method());
+        }
+        if (resourceOf(item.path()) == null) {
+            throw new InvalidRequestException("Ruta no permitida en /batch: " + item.path());
+        }
+    }
+
+    private boolean isRead(BatchItemRequestDTO item) {
+        return HttpMethod.GET.name().equalsIgnoreCase(item.method());
+    }
+
+    private String resourceOf(String path) {
+        return ROUTABLE_RESOURCES.stream()
+            .filter(resource -> path.equals(resource) || path.startsWith(resource + "/") || path.startsWith(resource + "?"))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private BatchSubRequest subRequest(BatchItemRequestDTO item, HttpServletRequest request) {
+        try {
+            byte[] body = item.body() != null ? objectMapper.writeValueAsBytes(item.body()) : null;
+            return new BatchSubRequest(request, item.method().toUpperCase(), item.path(), body);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Cuerpo no válido en la sub-petición " + item.id());
+        }
+    }
+
+    private BatchItemResponseDTO dispatch(BatchItemRequestDTO item, BatchSubRequest subRequest,
+                                          HttpServletResponse response) {
+        // RequestContextFilter limpia el contexto del hilo al terminar la sub-petición
+        RequestAttributes outerAttributes = RequestContextHolder.getRequestAttributes();
+        LocaleContext outerLocale = LocaleContextHolder.getLocaleContext();
+        try {
+            var subResponse = new BatchSubResponse(response);
+
+            new BatchFilterChain(filters(), dispatcherServlet).doFilter(subRequest, subResponse);
+
+            return new BatchItemResponseDTO(item.id(), subResponse.getStatus(), headersOf(subResponse),
+                bodyOf(subResponse));
+        } catch (Exception e) {
+            log.error("Error procesando la sub-petición {} ({} {})", item.id(), subRequest.getMethod(),
+                item.path(), e);
+            return new BatchItemResponseDTO(item.id(), HttpServletResponse.SC_INTERNAL_SERVER_ERROR, Map.of(),
+                TextNode.valueOf("Error al procesar la sub-petición"));
+        } finally {
+            RequestContextHolder.setRequestAttributes(outerAttributes);
+            LocaleContextHolder.setLocaleContext(outerLocale);
+        }
+    }
+
+    // Filtros registrados para peticiones REQUEST que cubren todas las rutas, en el orden del contenedor.
+    // Se resuelven en el primer uso: al crear este servicio aún no existen todos los registros
+    private List<Filter> filters() {
+        List<Filter> resolved = filters;
+        if (resolved == null) {
+            resolved = new ServletContextInitializerBeans(beanFactory).stream()
+                .filter(AbstractFilterRegistrationBean.class::isInstance)
+                .map(initializer -> (AbstractFilterRegistrationBean<?>) initializer)
+                .filter(registration -> registration.isEnabled() && appliesToAllPaths(registration))
+                .map(AbstractFilterRegistrationBean::getFilter)
+                .map(Filter.class::cast)
+                .toList();
+            filters = resolved;
+        }
+        return resolved;
+    }
+
+    private static boolean appliesToAllPaths(AbstractFilterRegistrationBean<?> registration) {
+        boolean requests = registration.determineDispatcherTypes().contains(DispatcherType.REQUEST);
+        var patterns = registration.getUrlPatterns();
+        return requests && (patterns.isEmpty() || patterns.contains("/*"));
+    }
+
+    private Map<String, String> headersOf(BatchSubResponse subResponse) {
+        return subResponse.getHeaderMap().entrySet().stream()
+            .filter(header -> !header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH))
+            .collect(Collectors.toMap(Map.Entry::getKey, header -> String.join(", ", header.getValue())));
+    }
+
+    private JsonNode bodyOf(BatchSubResponse subResponse) throws Exception {
+        byte[] content = subResponse.getContentAsByteArray();
+        if (content.length == 0) {
+            return subResponse.getErrorMessage() != null ? TextNode.valueOf(subResponse.getErrorMessage()) : null;
+        }
+        String contentType = subResponse.getContentType();
+        if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return objectMapper.readTree(content);
+        }
+        return TextNode.valueOf(new String(content, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package com.luiscm.forohub.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Caché en memoria acotada por tamaño (LRU) y con caducidad opcional por entrada
+public class BoundedCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    // Cargas en curso por clave y la generación en que se invalidó cada una mientras cargaba
+    private record Loading(int count, long invalidatedAt) {
+    }
+
+    private final Map<K, Entry<V>> entries;
+    private final Map<K, Loading> loading = new HashMap<>();
+    private final long ttlMs;
+    private long generation;
+    private long allInvalidatedAt = -1;
+
+    public BoundedCache(int maxSize, long ttlMs) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (ttlMs > 0 && entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMs));
+    }
+
+    // La carga se hace fuera del bloqueo para no serializar consultas distintas. Si la clave
+    // se invalida mientras tanto, el valor cargado puede ser anterior al cambio y no se guarda
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        long startedAt;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            startedAt = generation;
+            loading.merge(key, new Loading(1, -1), (current, added) ->
+                new Loading(current.count() + 1, current.invalidatedAt()));
+        }
+
+        V loaded = null;
+        try {
+            loaded = loader.apply(key);
+            return loaded;
+        } finally {
+            finishLoading(key, loaded, startedAt);
+        }
+    }
+
+    private synchronized void finishLoading(K key, V loaded, long startedAt) {
+        Loading state = loading.get(key);
+        boolean stale = allInvalidatedAt > startedAt || state.invalidatedAt() > startedAt;
+        if (loaded != null && !stale) {
+            put(key, loaded);
+        }
+        if (state.count() == 1) {
+            loading.remove(key);
+        } else {
+            loading.put(key, new Loading(state.count() - 1, state.invalidatedAt()));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        generation++;
+        Loading state = loading.get(key);
+        if (state != null) {
+            loading.put(key, new Loading(state.count(), generation));
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        allInvalidatedAt = ++generation;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,183 @@
+package com.luiscm.forohub.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.luiscm.forohub.model.ChangeEntityType;
+import com.luiscm.forohub.model.ChangeLog;
+import com.luiscm.forohub.model.ChangeOperation;
+import com.luiscm.forohub.model.dto.ChangeEventDTO;
+import com.luiscm.forohub.model.dto.ChangeFeedDTO;
+import com.luiscm.forohub.repository.ChangeLogRepository;
+
+/**
+ * Registro de cambios (change_log) y su lectura por cursor en orden de commit.
+ * Las esperas largas de GET /changes no ocupan un hilo ni una conexión: quedan como
+ * DeferredResult y se resuelven desde changeFeedExecutor cuando un commit de esta
+ * instancia avisa o, para los de otras instancias, en la comprobación periódica.
+ */
+@Service
+public class ChangeLogService {
+
+    private record Waiter(long since, int limit, DeferredResult<ChangeFeedDTO> result) {
+    }
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean checkScheduled = new AtomicBoolean();
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private CommitSequence commitSequence;
+
+    // JDBC y no JPA: fuera de una transacción la conexión se devuelve tras cada consulta,
+    // mientras que el EntityManager de open-in-view la retendría durante toda la espera
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("changeFeedExecutor")
+    private TaskExecutor executor;
+
+    @Value("${forohub.changes.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${forohub.changes.compaction-batch-size:1000}")
+    private int compactionBatchSize;
+
+    // Se escribe en la misma transacción que la mutación que lo origina
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        ChangeLog change = changeLogRepository.save(new ChangeLog(entityType, entityId, operation));
+        commitSequence.assignOnCommit(CommitSequence.Stream.CHANGE_LOG, change.getChangeId());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeWaiters();
+            }
+        });
+    }
+
+    public ChangeFeedDTO changesSince(long since, int limit) {
+        // Se pide uno extra para saber si quedan más cambios pendientes
+        List<ChangeEventDTO> changes = jdbcTemplate.query("""
+                SELECT change_id, commit_seq, entity_type, entity_id, operation, created_at
+                FROM change_log
+                WHERE commit_seq > ?
+                ORDER BY commit_seq
+                LIMIT ?
+                """, (row, rowNum) -> new ChangeEventDTO(
+                    row.getLong(1),
+                    row.getLong(2),
+                    ChangeEntityType.valueOf(row.getString(3)),
+                    row.getLong(4),
+                    ChangeOperation.valueOf(row.getString(5)),
+                    row.getTimestamp(6).toLocalDateTime()),
+            since, limit + 1);
+
+        boolean hasMore = changes.size() > limit;
+        List<ChangeEventDTO> page = hasMore ? changes.subList(0, limit) : changes;
+        long nextCursor = page.isEmpty() ? since : page.get(page.size() - 1).commitSeq();
+        return new ChangeFeedDTO(List.copyOf(page), nextCursor, hasMore);
+    }
+
+    // Sin cambios, la respuesta queda pendiente hasta que llegue alguno o venza waitMs
+    public DeferredResult<ChangeFeedDTO> awaitChanges(long since, int limit, long waitMs) {
+        if (waitMs <= 0) {
+            var result = new DeferredResult<ChangeFeedDTO>();
+            result.setResult(changesSince(since, limit));
+            return result;
+        }
+
+        var result = new DeferredResult<ChangeFeedDTO>(waitMs, new ChangeFeedDTO(List.of(), since, false));
+        var waiter = new Waiter(since, limit, result);
+        // Se registra antes de consultar: un commit entre medias también lo despierta
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+
+        ChangeFeedDTO feed = changesSince(since, limit);
+        if (!feed.changes().isEmpty()) {
+            complete(waiter, feed);
+        }
+        return result;
+    }
+
+    // Los commits de otras instancias no avisan aquí: se detectan consultando el último commit_seq
+    @Scheduled(fixedDelayString = "${forohub.changes.poll-ms:250}")
+    public void pollWaiters() {
+        wakeWaiters();
+    }
+
+    private void wakeWaiters() {
+        if (waiters.isEmpty() || !checkScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                checkScheduled.set(false);
+                checkWaiters();
+            });
+        } catch (TaskRejectedException e) {
+            // La siguiente pasada periódica lo vuelve a intentar
+            checkScheduled.set(false);
+        }
+    }
+
+    void checkWaiters() {
+        Long latest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(commit_seq), 0) FROM change_log", Long.class);
+        // Las esperas con el mismo cursor y límite comparten la consulta
+        Map<List<Long>, ChangeFeedDTO> feeds = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.result().isSetOrExpired()) {
+                waiters.remove(waiter);
+                continue;
+            }
+            if (latest == null || waiter.since() >= latest) {
+                continue;
+            }
+            ChangeFeedDTO feed = feeds.computeIfAbsent(List.of(waiter.since(), (long) waiter.limit()),
+                key -> changesSince(waiter.since(), waiter.limit()));
+            if (!feed.changes().isEmpty()) {
+                complete(waiter, feed);
+            }
+        }
+    }
+
+    private void complete(Waiter waiter, ChangeFeedDTO feed) {
+        waiters.remove(waiter);
+        waiter.result().setResult(feed);
+    }
+
+    // Compactación: conserva solo el último evento de cada entidad fuera del periodo de retención.
+    // Cada lote se borra en su propia transacción para no retener bloqueos durante toda la pasada
+    @Scheduled(cron = "${forohub.changes.compaction-cron:0 0 3 * * *}")
+    public void compact() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        List<Long> superseded;
+        do {
+            superseded = changeLogRepository.findSupersededChangeIds(before, compactionBatchSize);
+            changeLogRepository.deleteAllByIdInBatch(superseded);
+        } while (superseded.size() == compactionBatchSize);
+    }
+}
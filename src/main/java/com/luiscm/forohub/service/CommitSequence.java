@@ -0,0 +1,107 @@
+package com.luiscm.forohub.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Numeración en orden de commit para los registros que se leen con un cursor
+ * (change_log, outbox_events, replies). Un AUTO_INCREMENT se asigna al insertar, así que un
+ * id menor puede confirmarse después de uno mayor y un lector que avanza por id lo
+ * saltaría. Aquí las filas se numeran justo antes del commit incrementando la fila
+ * de commit_sequence: su bloqueo se mantiene hasta el commit, de modo que ningún
+ * otro escritor obtiene un número mayor hasta que esta transacción es visible.
+ * Las filas sin número (commit_seq NULL) aún no se han confirmado.
+ */
+@Service
+public class CommitSequence {
+
+    public enum Stream {
+        CHANGE_LOG("change_log", "change_id"),
+        OUTBOX("outbox_events", "event_id"),
+        REPLIES("replies", "reply_id");
+
+        private final String table;
+        private final String idColumn;
+
+        Stream(String table, String idColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+        }
+    }
+
+    private static final String SEQUENCE = "global";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Se llama tras insertar la fila, dentro de la transacción que la crea
+    public void assignOnCommit(Stream stream, long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Se necesita una transacción para numerar " + stream.table);
+        }
+        @SuppressWarnings("unchecked")
+        var pending = (Map<Stream, List<Long>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new EnumMap<>(Stream.class);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new Assignment(pending));
+        }
+        pending.computeIfAbsent(stream, key -> new ArrayList<>()).add(id);
+    }
+
+    private final class Assignment implements TransactionSynchronization {
+
+        private final Map<Stream, List<Long>> pending;
+
+        Assignment(Map<Stream, List<Long>> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // JpaTransactionManager vuelca las entidades después de beforeCommit: se adelanta el volcado
+            // para que la fila del contador sea el último bloqueo que toma la transacción
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            if (entityManager != null) {
+                entityManager.flush();
+            }
+
+            int count = pending.values().stream().mapToInt(List::size).sum();
+            // Una sola reserva por transacción: el bloqueo se toma lo más tarde posible
+            jdbcTemplate.update("UPDATE commit_sequence SET value = LAST_INSERT_ID(value + ?) WHERE name = ?",
+                count, SEQUENCE);
+            Long last = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+            long next = (last != null ? last : 0) - count;
+
+            for (Map.Entry<Stream, List<Long>> entry : pending.entrySet()) {
+                Stream stream = entry.getKey();
+                List<Object[]> assignments = new ArrayList<>();
+                for (long id : entry.getValue().stream().sorted().toList()) {
+                    assignments.add(new Object[] {++next, id});
+                }
+                jdbcTemplate.batchUpdate("UPDATE " + stream.table + " SET commit_seq = ? WHERE "
+                    + stream.idColumn + " = ?", assignments);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CommitSequence.this);
+        }
+    }
+}
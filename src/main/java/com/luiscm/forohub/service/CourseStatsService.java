@@ -0,0 +1,112 @@
+package com.luiscm.forohub.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.model.CourseStats;
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.dto.CourseStatsDTO;
+import com.luiscm.forohub.model.event.DomainEvent;
+import com.luiscm.forohub.model.event.ReplyCreated;
+import com.luiscm.forohub.model.event.ReplyDeleted;
+import com.luiscm.forohub.model.event.TopicCreated;
+import com.luiscm.forohub.model.event.TopicDeleted;
+import com.luiscm.forohub.model.event.TopicStatusChanged;
+import com.luiscm.forohub.repository.CourseRepository;
+import com.luiscm.forohub.repository.CourseStatsRepository;
+
+@Service
+public class CourseStatsService implements DomainEventConsumer {
+
+    @Autowired
+    private CourseStatsRepository courseStatsRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private OutboxStore outboxStore;
+
+    @Value("${forohub.course-stats.recompute-batch-size:200}")
+    private int recomputeBatchSize;
+
+    public CourseStatsDTO getStats(Long courseId) {
+        return new CourseStatsDTO(courseStatsRepository.findById(courseId)
+            .orElseGet(() -> new CourseStats(courseId)));
+    }
+
+    @Override
+    public String consumerName() {
+        return "course-stats";
+    }
+
+    // Los deltas del lote se suman por curso: una sola escritura por curso y lote
+    @Override
+    public void handle(List<DomainEvent> events) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        for (DomainEvent event : events) {
+            if (event instanceof TopicCreated created) {
+                add(deltas, created.courseId(), 1, isOpen(created.status()), isSolved(created.status()), 0);
+            } else if (event instanceof TopicStatusChanged changed) {
+                add(deltas, changed.courseId(), 0,
+                    isOpen(changed.current()) - isOpen(changed.previous()),
+                    isSolved(changed.current()) - isSolved(changed.previous()),
+                    0);
+            } else if (event instanceof TopicDeleted deleted) {
+                add(deltas, deleted.courseId(),
+                    -1, -isOpen(deleted.status()), -isSolved(deleted.status()), -deleted.activeReplies());
+            } else if (event instanceof ReplyCreated created && created.topicActive()) {
+                add(deltas, created.courseId(), 0, 0, 0, 1);
+            } else if (event instanceof ReplyDeleted deleted && deleted.topicActive()) {
+                add(deltas, deleted.courseId(), 0, 0, 0, -1);
+            }
+        }
+        deltas.forEach((courseId, delta) ->
+            courseStatsRepository.increment(courseId, delta[0], delta[1], delta[2], delta[3]));
+    }
+
+    // Reparación de desviaciones: recorre los cursos por bloques en una sola transacción que bloquea la
+    // posición de este consumidor y la lleva al último evento confirmado, para no sumar dos veces los
+    // eventos que el recálculo ya refleja. Avanzarla por bloques saltaría eventos de otros cursos
+    @Scheduled(cron = "${forohub.course-stats.recompute-cron:0 30 3 * * *}")
+    public void recomputeAll() {
+        outboxStore.rebase(consumerName(), () -> {
+            long after = 0;
+            List<Long> courseIds;
+            do {
+                courseIds = courseRepository.findCourseIdsAfter(after, PageRequest.ofSize(recomputeBatchSize));
+                if (!courseIds.isEmpty()) {
+                    courseStatsRepository.recompute(courseIds);
+                    after = courseIds.get(courseIds.size() - 1);
+                }
+            } while (courseIds.size() == recomputeBatchSize);
+        });
+    }
+
+    private static void add(Map<Long, long[]> deltas, Long courseId, long topics, long open, long solved,
+            long replies) {
+        if (courseId == null) {
+            return;
+        }
+        long[] delta = deltas.computeIfAbsent(courseId, key -> new long[4]);
+        delta[0] += topics;
+        delta[1] += open;
+        delta[2] += solved;
+        delta[3] += replies;
+    }
+
+    private static long isOpen(StatusTopic status) {
+        return status == StatusTopic.NO_RESPONSE || status == StatusTopic.NO_SOLUTION ? 1 : 0;
+    }
+
+    private static long isSolved(StatusTopic status) {
+        return status == StatusTopic.SOLVED ? 1 : 0;
+    }
+}
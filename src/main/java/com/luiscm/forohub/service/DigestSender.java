@@ -0,0 +1,16 @@
+package com.luiscm.forohub.service;
+
+/**
+ * Canal de entrega de los resúmenes de respuestas (correo, push, etc.).
+ * Si no hay otra implementación registrada se usa LoggingDigestSender.
+ * Un resumen puede entregarse más de una vez si la aplicación cae justo
+ * después de enviarlo y antes de marcarlo como enviado.
+ */
+public interface DigestSender {
+
+    record Digest(Long digestId, Long recipientId, String recipientEmail, Long topicId, String topicTitle,
+                  Long firstReplyId, Long lastReplyId, int replyCount) {
+    }
+
+    void send(Digest digest);
+}
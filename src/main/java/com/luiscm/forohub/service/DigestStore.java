@@ -0,0 +1,36 @@
+package com.luiscm.forohub.service;
+
+import java.util.List;
+
+import com.luiscm.forohub.service.DigestSender.Digest;
+import com.luiscm.forohub.service.ReplyDigestService.PendingDigest;
+import com.luiscm.forohub.service.ReplyDigestService.ScannedReply;
+
+/**
+ * Acceso de ReplyDigestService a digest_watermarks, replies y notification_digests.
+ * La marca es un valor de commit_seq de replies: una respuesta solo se lee cuando
+ * ya se confirmó y ninguna otra puede confirmarse después con un número menor.
+ */
+interface DigestStore {
+
+    long watermark();
+
+    List<ScannedReply> repliesAfter(long commitSeq, int limit);
+
+    /**
+     * Bloquea la marca y, si sigue siendo expected, suma los resúmenes a los pendientes
+     * (o abre uno nuevo) y la avanza a next en la misma transacción. Devuelve false sin
+     * escribir nada si otra instancia ya procesó el lote.
+     */
+    boolean addPending(long expected, long next, List<PendingDigest> digests);
+
+    /**
+     * Reserva con claimToken los resúmenes pendientes con más de windowMs de antigüedad y
+     * los reservados hace más de claimTimeoutMs (instancia caída a mitad de envío). Un
+     * resumen reservado ya no cambia: las respuestas posteriores van a un resumen nuevo.
+     */
+    List<Digest> claimDue(String claimToken, long windowMs, long claimTimeoutMs, int limit);
+
+    // false si la reserva caducó y otra instancia se quedó con el resumen
+    boolean markSent(long digestId, String claimToken);
+}
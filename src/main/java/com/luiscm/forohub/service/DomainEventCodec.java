@@ -0,0 +1,45 @@
+package com.luiscm.forohub.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.luiscm.forohub.model.event.DomainEvent;
+
+// El tipo se guarda con el nombre simple del record; solo se admiten los permitidos por DomainEvent
+final class DomainEventCodec {
+
+    private static final Map<String, Class<?>> TYPES = Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+        .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private DomainEventCodec() {
+    }
+
+    static String type(DomainEvent event) {
+        return event.getClass().getSimpleName();
+    }
+
+    static String write(ObjectMapper objectMapper, DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + type(event), e);
+        }
+    }
+
+    static DomainEvent read(ObjectMapper objectMapper, String type, String payload) {
+        Class<?> eventClass = TYPES.get(type);
+        if (eventClass == null) {
+            throw new IllegalArgumentException("Tipo de evento desconocido: " + type);
+        }
+        try {
+            return (DomainEvent) objectMapper.readValue(payload, eventClass);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Evento " + type + " ilegible", e);
+        }
+    }
+}
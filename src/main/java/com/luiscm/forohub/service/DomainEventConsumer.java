@@ -0,0 +1,27 @@
+package com.luiscm.forohub.service;
+
+import java.util.List;
+
+import com.luiscm.forohub.model.event.DomainEvent;
+
+/**
+ * Efecto secundario de las escrituras que se ejecuta fuera de la petición.
+ * Recibe los eventos en orden y por lotes; un lote puede repetirse si falla,
+ * así que handle debe tolerar reintentos. Si escribe en la base de datos lo
+ * hace en la misma transacción en la que avanza su posición en el outbox,
+ * y con varias instancias cada lote se aplica una sola vez.
+ */
+public interface DomainEventConsumer {
+
+    // Identifica la posición del consumidor en event_consumer_offsets; no debe cambiar
+    String consumerName();
+
+    void handle(List<DomainEvent> events);
+
+    // true si el efecto es local a cada instancia (p. ej. invalidar una caché en memoria):
+    // cada instancia recibe todos los eventos y lleva su posición en memoria. Esa posición
+    // no frena la purga del outbox, así que el estado debe poder reconstruirse sin eventos
+    default boolean perInstance() {
+        return false;
+    }
+}
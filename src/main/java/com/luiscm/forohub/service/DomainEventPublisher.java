@@ -0,0 +1,33 @@
+package com.luiscm.forohub.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.luiscm.forohub.model.event.DomainEvent;
+
+@Service
+public class DomainEventPublisher {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CommitSequence commitSequence;
+
+    // Outbox transaccional: el evento existe si y solo si la escritura que lo origina se confirma
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        jdbcTemplate.update("INSERT INTO outbox_events (event_type, payload) VALUES (?, ?)",
+            DomainEventCodec.type(event), DomainEventCodec.write(objectMapper, event));
+        Long eventId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        commitSequence.assignOnCommit(CommitSequence.Stream.OUTBOX, eventId);
+    }
+}
@@ -0,0 +1,293 @@
+package com.luiscm.forohub.service;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Respuestas guardadas por clave de idempotencia. Un primer nivel en memoria (LRU
+ * con caducidad) evita ir a la base de datos en los reintentos habituales; la tabla
+ * idempotency_keys reparte las claves entre instancias y sobrevive a reinicios.
+ * Mientras la primera petición se ejecuta, su clave queda como PENDING.
+ */
+@Service
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final TypeReference<Map<String, List<String>>> HEADERS_TYPE = new TypeReference<>() {
+    };
+
+    public enum Status { ACQUIRED, REPLAY, MISMATCH, IN_PROGRESS }
+
+    // headers: cabeceras de la respuesta original salvo Content-Type y las de transporte
+    public record StoredResponse(String requestHash, int status, Map<String, List<String>> headers, String contentType,
+                                 byte[] body) {
+    }
+
+    // token identifica a quien adquirió la clave; solo lo tienen las reclamaciones ACQUIRED
+    public record Claim(Status status, StoredResponse response, String token) {
+
+        Claim(Status status, StoredResponse response) {
+            this(status, response, null);
+        }
+    }
+
+    private record Row(String requestHash, String state, Timestamp expiresAt, StoredResponse response) {
+    }
+
+    // Peticiones en curso en esta instancia: los duplicados concurrentes esperan su respuesta
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private BoundedCache<String, StoredResponse> memory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${forohub.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${forohub.idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${forohub.idempotency.pending-timeout-ms:60000}")
+    private long pendingTimeoutMs;
+
+    @Value("${forohub.idempotency.wait-ms:10000}")
+    private long waitMs;
+
+    @Value("${forohub.idempotency.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    @Value("${forohub.idempotency.persist-attempts:3}")
+    private int persistAttempts;
+
+    @Value("${forohub.idempotency.persist-backoff-ms:100}")
+    private long persistBackoffMs;
+
+    @PostConstruct
+    void init() {
+        memory = new BoundedCache<>(cacheSize, ttlMs);
+    }
+
+    public Claim claim(String key, String requestHash) {
+        long deadline = System.currentTimeMillis() + waitMs;
+
+        while (true) {
+            StoredResponse cached = memory.get(key);
+            if (cached != null) {
+                return matching(cached, requestHash);
+            }
+
+            var mine = new CompletableFuture<StoredResponse>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                try {
+                    StoredResponse response = running.get(Math.max(deadline - System.currentTimeMillis(), 0),
+                        TimeUnit.MILLISECONDS);
+                    if (response != null) {
+                        return matching(response, requestHash);
+                    }
+                    // La primera petición falló: se vuelve a intentar reclamar la clave
+                    continue;
+                } catch (TimeoutException | ExecutionException e) {
+                    return new Claim(Status.IN_PROGRESS, null);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new Claim(Status.IN_PROGRESS, null);
+                }
+            }
+
+            Claim claim;
+            try {
+                claim = claimInDatabase(key, requestHash);
+            } catch (RuntimeException e) {
+                inFlight.remove(key, mine);
+                mine.complete(null);
+                throw e;
+            }
+            if (claim.status() != Status.ACQUIRED) {
+                inFlight.remove(key, mine);
+                mine.complete(claim.response());
+            }
+            return claim;
+        }
+    }
+
+    /**
+     * Guarda la respuesta y solo después la publica en memoria y a los duplicados que
+     * esperan en esta instancia, para que ninguno reciba una respuesta que las demás
+     * instancias no verían. Los fallos transitorios se reintentan; si persisten, la
+     * excepción se propaga y la clave sigue PENDING hasta caducar. Si la clave ya no es
+     * de este token (caducó y otra petición la reclamó), la respuesta no se guarda.
+     */
+    public void complete(String key, String token, StoredResponse response) {
+        boolean persisted = false;
+        try {
+            persisted = persist(key, token, response);
+        } finally {
+            if (persisted) {
+                memory.put(key, response);
+            }
+            // Sin respuesta guardada, los que esperan vuelven a reclamar y ven el estado de la base de datos
+            CompletableFuture<StoredResponse> running = inFlight.remove(key);
+            if (running != null) {
+                running.complete(persisted ? response : null);
+            }
+        }
+        if (!persisted) {
+            log.warn("La clave de idempotencia {} ya no pertenece a esta petición; no se guarda su respuesta", key);
+        }
+    }
+
+    // La petición no produjo una respuesta reproducible (error 5xx o excepción): la clave queda libre
+    public void release(String key, String token) {
+        CompletableFuture<StoredResponse> running = inFlight.remove(key);
+        if (running != null) {
+            running.complete(null);
+        }
+        try {
+            jdbcTemplate.update("""
+                    DELETE FROM idempotency_keys
+                    WHERE idempotency_key = ? AND state = 'PENDING' AND claim_token = ?
+                    """, key, token);
+        } catch (DataAccessException e) {
+            log.warn("No se pudo liberar la clave de idempotencia {}", key, e);
+        }
+    }
+
+    // Borrado por lotes para no mantener bloqueos largos sobre la tabla
+    @Scheduled(fixedDelayString = "${forohub.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        Timestamp now = timestampIn(0);
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ? LIMIT ?",
+                now, purgeBatchSize);
+        } while (deleted == purgeBatchSize);
+    }
+
+    // false si la clave ya no está PENDING con este token
+    private boolean persist(String key, String token, StoredResponse response) {
+        String headers;
+        try {
+            headers = objectMapper.writeValueAsString(response.headers());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cabeceras de idempotencia no serializables", e);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return jdbcTemplate.update("""
+                        UPDATE idempotency_keys
+                        SET state = 'COMPLETED', response_status = ?, headers = ?, content_type = ?, body = ?,
+                            expires_at = ?
+                        WHERE idempotency_key = ? AND state = 'PENDING' AND claim_token = ?
+                        """, response.status(), headers, response.contentType(), response.body(),
+                    timestampIn(ttlMs), key, token) == 1;
+            } catch (DataAccessException e) {
+                if (attempt >= persistAttempts || !OutboxDispatcher.isTransient(e)) {
+                    throw e;
+                }
+                log.warn("Intento {} de {} fallido guardando la clave de idempotencia {}", attempt,
+                    persistAttempts, key, e);
+                sleep(persistBackoffMs << (attempt - 1));
+            }
+        }
+    }
+
+    private Claim claimInDatabase(String key, String requestHash) {
+        while (true) {
+            try {
+                String token = UUID.randomUUID().toString();
+                jdbcTemplate.update("""
+                        INSERT INTO idempotency_keys (idempotency_key, request_hash, state, expires_at, claim_token)
+                        VALUES (?, ?, 'PENDING', ?, ?)
+                        """, key, requestHash, timestampIn(pendingTimeoutMs), token);
+                return new Claim(Status.ACQUIRED, null, token);
+            } catch (DuplicateKeyException e) {
+                List<Row> rows = jdbcTemplate.query("""
+                        SELECT request_hash, state, expires_at, response_status, headers, content_type, body
+                        FROM idempotency_keys
+                        WHERE idempotency_key = ?
+                        """, (row, rowNum) -> new Row(
+                            row.getString(1),
+                            row.getString(2),
+                            row.getTimestamp(3),
+                            new StoredResponse(row.getString(1), row.getInt(4), readHeaders(row.getString(5)),
+                                row.getString(6), row.getBytes(7))),
+                        key);
+                if (rows.isEmpty()) {
+                    continue;
+                }
+
+                Row existing = rows.get(0);
+                if (existing.expiresAt().before(timestampIn(0))) {
+                    // Clave caducada pendiente de purga, o una petición abandonada por otra instancia
+                    jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at < ?",
+                        key, timestampIn(0));
+                    continue;
+                }
+                if (!existing.requestHash().equals(requestHash)) {
+                    return new Claim(Status.MISMATCH, null);
+                }
+                if ("PENDING".equals(existing.state())) {
+                    return new Claim(Status.IN_PROGRESS, null);
+                }
+                memory.put(key, existing.response());
+                return new Claim(Status.REPLAY, existing.response());
+            }
+        }
+    }
+
+    private Map<String, List<String>> readHeaders(String json) {
+        if (json == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, HEADERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cabeceras de idempotencia ilegibles", e);
+        }
+    }
+
+    private static Claim matching(StoredResponse response, String requestHash) {
+        return response.requestHash().equals(requestHash)
+            ? new Claim(Status.REPLAY, response)
+            : new Claim(Status.MISMATCH, null);
+    }
+
+    private static Timestamp timestampIn(long millis) {
+        return new Timestamp(System.currentTimeMillis() + millis);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.luiscm.forohub.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.luiscm.forohub.service.DigestSender.Digest;
+import com.luiscm.forohub.service.ReplyDigestService.PendingDigest;
+import com.luiscm.forohub.service.ReplyDigestService.ScannedReply;
+
+@Component
+class JdbcDigestStore implements DigestStore {
+
+    private static final String JOB = "reply-digest";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public long watermark() {
+        return jdbcTemplate.queryForObject("SELECT last_commit_seq FROM digest_watermarks WHERE job = ?",
+            Long.class, JOB);
+    }
+
+    @Override
+    public List<ScannedReply> repliesAfter(long commitSeq, int limit) {
+        return jdbcTemplate.query("""
+                SELECT r.commit_seq, r.reply_id, r.topic_id, t.user_id, r.user_id, r.active AND t.active
+                FROM replies r
+                JOIN topics t ON t.topic_id = r.topic_id
+                WHERE r.commit_seq > ?
+                ORDER BY r.commit_seq
+                LIMIT ?
+                """, (row, rowNum) -> new ScannedReply(row.getLong(1), row.getLong(2), row.getLong(3),
+                    row.getLong(4), row.getLong(5), row.getBoolean(6)),
+            commitSeq, limit);
+    }
+
+    @Override
+    public boolean addPending(long expected, long next, List<PendingDigest> digests) {
+        return Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> {
+            // FOR UPDATE: con varias instancias solo una procesa cada lote
+            Long current = jdbcTemplate.queryForObject(
+                "SELECT last_commit_seq FROM digest_watermarks WHERE job = ? FOR UPDATE", Long.class, JOB);
+            if (current == null || current != expected) {
+                return false;
+            }
+            if (!digests.isEmpty()) {
+                addToPending(digests);
+            }
+            jdbcTemplate.update("UPDATE digest_watermarks SET last_commit_seq = ?, updated_at = NOW(3) WHERE job = ?",
+                next, JOB);
+            return true;
+        }));
+    }
+
+    // Solo un resumen sin reservar (pending = 1) absorbe las respuestas nuevas
+    private void addToPending(List<PendingDigest> digests) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO notification_digests (recipient_id, topic_id, first_reply_id, last_reply_id, reply_count)
+                VALUES (?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                    first_reply_id = LEAST(first_reply_id, VALUES(first_reply_id)),
+                    last_reply_id = GREATEST(last_reply_id, VALUES(last_reply_id)),
+                    reply_count = reply_count + VALUES(reply_count)
+                """, digests.stream()
+                .map(digest -> new Object[] {digest.recipientId(), digest.topicId(), digest.firstReplyId(),
+                    digest.lastReplyId(), digest.replyCount()})
+                .toList());
+    }
+
+    @Override
+    public List<Digest> claimDue(String claimToken, long windowMs, long claimTimeoutMs, int limit) {
+        List<Long> claimed = new TransactionTemplate(transactionManager).execute(status -> {
+            // SKIP LOCKED: cada instancia reserva resúmenes distintos sin esperar a las demás
+            List<Long> ids = jdbcTemplate.queryForList("""
+                    SELECT digest_id FROM notification_digests
+                    WHERE (pending = 1 AND created_at <= NOW(3) - INTERVAL ? * 1000 MICROSECOND)
+                       OR (sent_at IS NULL AND claimed_at <= NOW(3) - INTERVAL ? * 1000 MICROSECOND)
+                    ORDER BY created_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                    """, Long.class, windowMs, claimTimeoutMs, limit);
+            if (!ids.isEmpty()) {
+                new NamedParameterJdbcTemplate(jdbcTemplate).update("""
+                        UPDATE notification_digests SET claimed_by = :token, claimed_at = NOW(3)
+                        WHERE digest_id IN (:ids)
+                        """, Map.of("token", claimToken, "ids", ids));
+            }
+            return ids;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query("""
+                SELECT d.digest_id, d.recipient_id, u.email, d.topic_id, t.title,
+                       d.first_reply_id, d.last_reply_id, d.reply_count
+                FROM notification_digests d
+                JOIN users u ON u.id = d.recipient_id
+                JOIN topics t ON t.topic_id = d.topic_id
+                WHERE d.claimed_by = ? AND d.sent_at IS NULL
+                ORDER BY d.created_at
+                """, (row, rowNum) -> new Digest(row.getLong(1), row.getLong(2), row.getString(3), row.getLong(4),
+                    row.getString(5), row.getLong(6), row.getLong(7), row.getInt(8)),
+            claimToken);
+    }
+
+    @Override
+    public boolean markSent(long digestId, String claimToken) {
+        return jdbcTemplate.update("""
+                UPDATE notification_digests SET sent_at = NOW(3)
+                WHERE digest_id = ? AND claimed_by = ? AND sent_at IS NULL
+                """, digestId, claimToken) == 1;
+    }
+}
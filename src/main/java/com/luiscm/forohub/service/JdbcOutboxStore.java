@@ -0,0 +1,111 @@
+package com.luiscm.forohub.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+class JdbcOutboxStore implements OutboxStore {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public long latestCommitSeq() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(commit_seq), 0) FROM outbox_events", Long.class);
+    }
+
+    @Override
+    public List<OutboxRow> readAfter(long commitSeq, int limit) {
+        return jdbcTemplate.query("""
+                SELECT commit_seq, event_type, payload FROM outbox_events
+                WHERE commit_seq > ?
+                ORDER BY commit_seq
+                LIMIT ?
+                """, (row, rowNum) -> new OutboxRow(row.getLong(1), row.getString(2), row.getString(3)),
+            commitSeq, limit);
+    }
+
+    @Override
+    public long countAfter(long commitSeq, int limit) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT 1 FROM outbox_events WHERE commit_seq > ? LIMIT ?
+                ) AS pending
+                """, Long.class, commitSeq, limit);
+    }
+
+    @Override
+    public long loadOffset(String consumer) {
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO event_consumer_offsets (consumer, last_commit_seq)
+                SELECT ?, COALESCE(MAX(commit_seq), 0) FROM outbox_events
+                """, consumer);
+        return jdbcTemplate.queryForObject("SELECT last_commit_seq FROM event_consumer_offsets WHERE consumer = ?",
+            Long.class, consumer);
+    }
+
+    @Override
+    public boolean advance(String consumer, long expected, long next, Runnable action) {
+        return Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> {
+            // FOR UPDATE: otra instancia con el mismo lote espera aquí y después ve la posición nueva
+            Long current = jdbcTemplate.queryForObject(
+                "SELECT last_commit_seq FROM event_consumer_offsets WHERE consumer = ? FOR UPDATE",
+                Long.class, consumer);
+            if (current == null || current != expected) {
+                return false;
+            }
+            action.run();
+            jdbcTemplate.update("""
+                    UPDATE event_consumer_offsets SET last_commit_seq = ?, updated_at = NOW(3)
+                    WHERE consumer = ?
+                    """, next, consumer);
+            return true;
+        }));
+    }
+
+    @Override
+    public void rebase(String consumer, Runnable action) {
+        loadOffset(consumer);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // FOR UPDATE: el consumidor no aplica lotes mientras dura el recálculo
+            jdbcTemplate.queryForObject(
+                "SELECT last_commit_seq FROM event_consumer_offsets WHERE consumer = ? FOR UPDATE",
+                Long.class, consumer);
+            action.run();
+            // El recálculo lee con bloqueo: lo confirmado hasta ahora ya está reflejado y lo que
+            // se confirme después no puede tocar las filas leídas hasta el commit
+            jdbcTemplate.update("""
+                    UPDATE event_consumer_offsets
+                    SET last_commit_seq = GREATEST(last_commit_seq,
+                            (SELECT COALESCE(MAX(commit_seq), 0) FROM outbox_events)),
+                        updated_at = NOW(3)
+                    WHERE consumer = ?
+                    """, consumer);
+        });
+    }
+
+    @Override
+    public long minOffset(Collection<String> consumers) {
+        return new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject("""
+                SELECT COUNT(*), MIN(last_commit_seq) FROM event_consumer_offsets
+                WHERE consumer IN (:consumers)
+                """, Map.of("consumers", consumers),
+            (row, rowNum) -> row.getLong(1) < consumers.size() ? -1L : row.getLong(2));
+    }
+
+    @Override
+    public int purgeUpTo(long commitSeq, int limit) {
+        return jdbcTemplate.update("DELETE FROM outbox_events WHERE commit_seq <= ? LIMIT ?", commitSeq, limit);
+    }
+}
@@ -0,0 +1,17 @@
+package com.luiscm.forohub.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Sustituto local del envío real: deja el resumen en el log
+public class LoggingDigestSender implements DigestSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingDigestSender.class);
+
+    @Override
+    public void send(Digest digest) {
+        log.info("Resumen {} para {}: {} respuestas nuevas en \"{}\" (tópico {}, respuestas {}..{})",
+            digest.digestId(), digest.recipientEmail(), digest.replyCount(), digest.topicTitle(),
+            digest.topicId(), digest.firstReplyId(), digest.lastReplyId());
+    }
+}
@@ -0,0 +1,54 @@
+package com.luiscm.forohub.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.exception.InvalidRequestException;
+import com.luiscm.forohub.model.dto.MultiGetDTO;
+
+@Service
+public class MultiGetService {
+
+    @Value("${forohub.multi-get.max-ids:100}")
+    private int maxIds;
+
+    @Value("${forohub.multi-get.chunk-size:50}")
+    private int chunkSize;
+
+    public <T, R> MultiGetDTO<R> resolve(List<Long> ids,
+                                          Function<List<Long>, List<T>> loader,
+                                          Function<T, Long> idOf,
+                                          Function<T, R> mapper) {
+        if (ids.size() > maxIds) {
+            throw new InvalidRequestException("Se admiten como máximo " + maxIds + " ids por petición");
+        }
+
+        // Un IN por bloque de ids distintos
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, R> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            for (T entity : loader.apply(chunk)) {
+                found.put(idOf.apply(entity), mapper.apply(entity));
+            }
+        }
+
+        List<R> results = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            R result = found.get(id);
+            results.add(result);
+            if (result == null && !missing.contains(id)) {
+                missing.add(id);
+            }
+        }
+        return new MultiGetDTO<>(results, missing);
+    }
+}
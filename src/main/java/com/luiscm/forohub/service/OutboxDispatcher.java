@@ -0,0 +1,291 @@
+package com.luiscm.forohub.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.luiscm.forohub.model.event.DomainEvent;
+import com.luiscm.forohub.service.OutboxStore.OutboxRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Entrega los eventos de outbox_events a cada DomainEventConsumer en orden de commit
+ * (commit_seq). La posición de cada consumidor está en event_consumer_offsets y se
+ * bloquea en la transacción que aplica el lote, así que con varias instancias cada
+ * lote se aplica una vez; los consumidores perInstance llevan su posición en memoria.
+ * Se ejecuta en el executor acotado domainEventExecutor, como mucho un lote a la vez
+ * por consumidor. Los fallos transitorios (bloqueos, conexión perdida) se reintentan
+ * sin avanzar; un lote que falla por otro motivo se procesa evento a evento y los
+ * que no se pueden aplicar se registran y se saltan.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private record Decoded(DomainEvent event, long commitSeq) {
+    }
+
+    private final class ConsumerState {
+        final DomainEventConsumer consumer;
+        final AtomicBoolean running = new AtomicBoolean();
+        // Última posición conocida; la de referencia es la de la base de datos salvo en los perInstance
+        final AtomicLong offset = new AtomicLong(-1);
+        // Eventos pendientes en la última pasada; los números de commit_seq se comparten con
+        // otras tablas, así que la distancia entre posiciones no sirve como retraso
+        final AtomicLong lag = new AtomicLong();
+        final Counter processed;
+        final Counter failed;
+        final Timer handleTime;
+
+        ConsumerState(DomainEventConsumer consumer) {
+            this.consumer = consumer;
+            String name = consumer.consumerName();
+            this.processed = meterRegistry.counter("forohub.events.processed", "consumer", name);
+            this.failed = meterRegistry.counter("forohub.events.failed", "consumer", name);
+            this.handleTime = meterRegistry.timer("forohub.events.handle", "consumer", name);
+            Gauge.builder("forohub.events.lag", this, state -> state.lag.get())
+                .tag("consumer", name)
+                .register(meterRegistry);
+        }
+    }
+
+    private final List<ConsumerState> states = new ArrayList<>();
+
+    @Autowired
+    private List<DomainEventConsumer> consumers;
+
+    @Autowired
+    private OutboxStore store;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("domainEventExecutor")
+    private TaskExecutor executor;
+
+    @Value("${forohub.events.batch-size:200}")
+    private int batchSize;
+
+    @Value("${forohub.events.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${forohub.events.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${forohub.events.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    @Value("${forohub.events.lag-count-limit:100000}")
+    private int lagCountLimit;
+
+    // Los perInstance empiezan en el último evento ya al crearse, antes de que los índices en memoria se
+    // reconstruyan al arrancar: los eventos confirmados durante la reconstrucción se entregan después
+    @PostConstruct
+    void registerConsumers() {
+        consumers.forEach(consumer -> states.add(new ConsumerState(consumer)));
+        if (consumers.stream().anyMatch(DomainEventConsumer::perInstance)) {
+            long latestCommitSeq = store.latestCommitSeq();
+            states.stream()
+                .filter(state -> state.consumer.perInstance())
+                .forEach(state -> state.offset.set(latestCommitSeq));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${forohub.events.poll-interval-ms:250}")
+    public void dispatch() {
+        long latestCommitSeq = store.latestCommitSeq();
+        for (ConsumerState state : states) {
+            long offset = state.offset.get();
+            state.lag.set(offset < 0 || offset >= latestCommitSeq ? 0 : store.countAfter(offset, lagCountLimit));
+            if (offset >= latestCommitSeq || !state.running.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        drain(state);
+                    } catch (RuntimeException e) {
+                        log.error("Error entregando eventos a {}", state.consumer.consumerName(), e);
+                    } finally {
+                        state.running.set(false);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                // Executor saturado: se reintenta en la siguiente pasada
+                state.running.set(false);
+            }
+        }
+    }
+
+    // Se borran por lotes los eventos que ya recibieron todos los consumidores compartidos, según
+    // sus posiciones guardadas. Los perInstance no cuentan: las posiciones de otras instancias no
+    // se conocen desde aquí, y su estado en memoria se reconstruye desde las tablas de origen
+    @Scheduled(fixedDelayString = "${forohub.events.purge-interval-ms:60000}")
+    public void purgeDelivered() {
+        List<String> shared = states.stream()
+            .filter(state -> !state.consumer.perInstance())
+            .map(state -> state.consumer.consumerName())
+            .toList();
+        if (shared.isEmpty()) {
+            return;
+        }
+        long delivered = store.minOffset(shared);
+        if (delivered <= 0) {
+            return;
+        }
+        int deleted;
+        do {
+            deleted = store.purgeUpTo(delivered, purgeBatchSize);
+        } while (deleted == purgeBatchSize);
+    }
+
+    private void drain(ConsumerState state) {
+        List<OutboxRow> rows;
+        do {
+            long offset = currentOffset(state);
+            rows = store.readAfter(offset, batchSize);
+            if (rows.isEmpty() || !deliver(state, offset, rows)) {
+                return;
+            }
+        } while (rows.size() == batchSize);
+    }
+
+    // Los consumidores compartidos parten siempre de la posición guardada: otra instancia pudo avanzarla
+    private long currentOffset(ConsumerState state) {
+        if (state.consumer.perInstance()) {
+            return state.offset.get();
+        }
+        long offset = store.loadOffset(state.consumer.consumerName());
+        state.offset.set(offset);
+        return offset;
+    }
+
+    // false si un fallo transitorio detiene la entrega: se reintenta desde la misma posición
+    private boolean deliver(ConsumerState state, long offset, List<OutboxRow> rows) {
+        List<Decoded> decoded = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            try {
+                decoded.add(new Decoded(DomainEventCodec.read(objectMapper, row.type(), row.payload()),
+                    row.commitSeq()));
+            } catch (IllegalArgumentException e) {
+                log.error("Evento {} ({}) ilegible, se omite para {}", row.commitSeq(), row.type(),
+                    state.consumer.consumerName(), e);
+                state.failed.increment();
+            }
+        }
+        List<DomainEvent> events = decoded.stream().map(Decoded::event).toList();
+        long last = rows.get(rows.size() - 1).commitSeq();
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                if (apply(state, offset, last, events)) {
+                    state.processed.increment(events.size());
+                }
+                return true;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    log.warn("Lote de {} eventos rechazado por {}; se aplica evento a evento", events.size(),
+                        state.consumer.consumerName(), e);
+                    break;
+                }
+                log.warn("Intento {} de {} fallido entregando {} eventos a {}", attempt, maxAttempts,
+                    events.size(), state.consumer.consumerName(), e);
+                if (attempt == maxAttempts) {
+                    return false;
+                }
+                sleep(retryBackoffMs << (attempt - 1));
+            }
+        }
+
+        // Se aísla el evento problemático para no bloquear al consumidor
+        long current = offset;
+        for (Decoded item : decoded) {
+            try {
+                if (!apply(state, current, item.commitSeq(), List.of(item.event()))) {
+                    return true;
+                }
+                state.processed.increment();
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    log.warn("Fallo transitorio entregando el evento {} a {}; se reintentará", item.commitSeq(),
+                        state.consumer.consumerName(), e);
+                    return false;
+                }
+                log.error("Evento {} ({}) descartado para {}", item.commitSeq(), DomainEventCodec.type(item.event()),
+                    state.consumer.consumerName(), e);
+                state.failed.increment();
+                if (!apply(state, current, item.commitSeq(), List.of())) {
+                    return true;
+                }
+            }
+            current = item.commitSeq();
+        }
+        // Eventos ilegibles al final del lote
+        if (current != last) {
+            apply(state, current, last, List.of());
+        }
+        return true;
+    }
+
+    // false si otra instancia ya aplicó este lote; handle y la nueva posición se confirman juntos
+    private boolean apply(ConsumerState state, long expected, long next, List<DomainEvent> events) {
+        Runnable handle = () -> {
+            if (!events.isEmpty()) {
+                state.handleTime.record(() -> state.consumer.handle(events));
+            }
+        };
+        if (state.consumer.perInstance()) {
+            handle.run();
+        } else if (!store.advance(state.consumer.consumerName(), expected, next, handle)) {
+            return false;
+        }
+        state.offset.set(next);
+        return true;
+    }
+
+    // Bloqueos, timeouts o conexión perdida: el mismo lote puede funcionar en otro intento
+    static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
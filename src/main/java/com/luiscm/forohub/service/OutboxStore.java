@@ -0,0 +1,44 @@
+package com.luiscm.forohub.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Acceso de OutboxDispatcher a outbox_events y event_consumer_offsets. Las
+ * posiciones son valores de commit_seq: un evento solo se lee cuando su
+ * transacción ya se confirmó y ninguna otra puede confirmarse con un número menor.
+ */
+interface OutboxStore {
+
+    record OutboxRow(long commitSeq, String type, String payload) {
+    }
+
+    long latestCommitSeq();
+
+    List<OutboxRow> readAfter(long commitSeq, int limit);
+
+    // Eventos confirmados después de esa posición, contando como mucho limit
+    long countAfter(long commitSeq, int limit);
+
+    // Un consumidor nuevo empieza en el último evento existente: no reprocesa el historial
+    long loadOffset(String consumer);
+
+    /**
+     * Bloquea la posición del consumidor y, si sigue siendo expected, ejecuta action y
+     * la avanza a next en la misma transacción. Devuelve false sin ejecutar nada si
+     * otra instancia ya la movió.
+     */
+    boolean advance(String consumer, long expected, long next, Runnable action);
+
+    /**
+     * Bloquea la posición del consumidor, ejecuta action y la deja en el último evento
+     * confirmado, todo en la misma transacción. Para recálculos desde las tablas de
+     * origen: los eventos que ya reflejan no se vuelven a entregar.
+     */
+    void rebase(String consumer, Runnable action);
+
+    // Posición más atrasada de los consumidores indicados; -1 si alguno aún no tiene posición
+    long minOffset(Collection<String> consumers);
+
+    int purgeUpTo(long commitSeq, int limit);
+}
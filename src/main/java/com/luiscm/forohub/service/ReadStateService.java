@@ -0,0 +1,162 @@
+package com.luiscm.forohub.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.exception.ResourceNotFoundException;
+import com.luiscm.forohub.model.dto.TopicUnreadDTO;
+import com.luiscm.forohub.model.dto.UnreadSummaryDTO;
+import com.luiscm.forohub.repository.TopicReadStateRepository;
+import com.luiscm.forohub.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Seguimiento de lectura por marcas: una fila por (usuario, tópico) con la última
+ * respuesta leída en orden de commit (commit_seq). Las lecturas solo actualizan un búfer en memoria que se vuelca
+ * por lotes; los conteos pueden ir por detrás como mucho un intervalo de volcado.
+ */
+@Service
+public class ReadStateService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadStateService.class);
+    private static final int MAX_SUMMARY_TOPICS = 100;
+
+    private record Key(Long userId, Long topicId) {
+    }
+
+    // El id de la respuesta se guarda para mostrarlo; la comparación usa commitSeq
+    private record Mark(long replyId, long commitSeq) {
+
+        static Mark latest(Mark a, Mark b) {
+            return a.commitSeq() >= b.commitSeq() ? a : b;
+        }
+    }
+
+    private final ConcurrentHashMap<Key, Mark> pending = new ConcurrentHashMap<>();
+    // Usuarios ya comprobados: marcar como leído no consulta users en cada visita
+    private BoundedCache<Long, Boolean> knownUsers;
+
+    @Autowired
+    private TopicReadStateRepository topicReadStateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${forohub.read-state.max-pending:50000}")
+    private int maxPending;
+
+    @Value("${forohub.read-state.known-users-cache-size:10000}")
+    private int knownUsersCacheSize;
+
+    @PostConstruct
+    void initCache() {
+        knownUsers = new BoundedCache<>(knownUsersCacheSize, 0);
+    }
+
+    public void markRead(Long userId, Long topicId, long lastReplyId, long lastCommitSeq) {
+        // Un usuario inexistente haría fallar el volcado por la clave foránea
+        knownUsers.computeIfAbsent(userId, id -> {
+            if (!userRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Usuario no encontrado");
+            }
+            return Boolean.TRUE;
+        });
+        pending.merge(new Key(userId, topicId), new Mark(lastReplyId, lastCommitSeq), Mark::latest);
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${forohub.read-state.flush-interval-ms:2000}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Key key : pending.keySet()) {
+            // remove devuelve el valor más reciente; si llega otra lectura después, queda para el siguiente volcado
+            Mark mark = pending.remove(key);
+            if (mark != null) {
+                batch.add(new Object[] {key.userId(), key.topicId(), mark.replyId(), mark.commitSeq()});
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(TopicReadStateRepository.UPSERT_WATERMARK, batch);
+        } catch (DataIntegrityViolationException e) {
+            // Algún tópico se borró antes del volcado: se reintenta fila a fila para perder solo esas marcas
+            flushOneByOne(batch);
+        } catch (DataAccessException e) {
+            log.warn("No se pudieron guardar {} marcas de lectura; se reintentará", batch.size(), e);
+            requeue(batch);
+        }
+    }
+
+    private void flushOneByOne(List<Object[]> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            Object[] row = batch.get(i);
+            try {
+                jdbcTemplate.update(TopicReadStateRepository.UPSERT_WATERMARK, row);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Marca de lectura descartada (usuario {}, tópico {}): {}", row[0], row[1],
+                    e.getMostSpecificCause().getMessage());
+            } catch (DataAccessException e) {
+                log.warn("No se pudieron guardar {} marcas de lectura; se reintentará", batch.size() - i, e);
+                requeue(batch.subList(i, batch.size()));
+                return;
+            }
+        }
+    }
+
+    // La marca más alta gana si entretanto llegó otra lectura para la misma clave
+    private void requeue(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            pending.merge(new Key((Long) row[0], (Long) row[1]), new Mark((Long) row[2], (Long) row[3]),
+                Mark::latest);
+        }
+    }
+
+    public UnreadSummaryDTO unreadForTopics(Long userId, List<Long> topicIds) {
+        Map<Long, TopicUnreadDTO> counted = new HashMap<>();
+        topicReadStateRepository.countUnreadForTopics(userId, topicIds)
+            .forEach(row -> counted.put(row.getTopicId(),
+                new TopicUnreadDTO(row.getTopicId(), row.getLastReadReplyId(), row.getUnread())));
+
+        List<TopicUnreadDTO> topics = topicIds.stream()
+            .distinct()
+            .map(topicId -> counted.getOrDefault(topicId, new TopicUnreadDTO(topicId, 0, 0)))
+            .toList();
+        return summary(userId, topics);
+    }
+
+    public UnreadSummaryDTO unreadForUser(Long userId) {
+        List<TopicUnreadDTO> topics = topicReadStateRepository.countUnreadForUser(userId, MAX_SUMMARY_TOPICS)
+            .stream()
+            .map(row -> new TopicUnreadDTO(row.getTopicId(), row.getLastReadReplyId(), row.getUnread()))
+            .toList();
+        return summary(userId, topics);
+    }
+
+    private UnreadSummaryDTO summary(Long userId, List<TopicUnreadDTO> topics) {
+        long total = topics.stream().mapToLong(TopicUnreadDTO::unread).sum();
+        return new UnreadSummaryDTO(userId, total, topics);
+    }
+}
@@ -0,0 +1,79 @@
+package com.luiscm.forohub.service;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Estado en memoria que se reconstruye desde la base de datos y se mantiene al día
+ * con cambios aplicados tras cada commit. Los cambios que llegan durante una
+ * reconstrucción se guardan y se vuelven a aplicar sobre el estado nuevo, que
+ * se leyó sin ellos o con una versión anterior.
+ *
+ * @param <S> estado del índice
+ * @param <C> cambio incremental
+ */
+final class RebuildableIndex<S, C> {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<C> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private final BiConsumer<S, C> applier;
+    private volatile boolean rebuilding;
+    private S state;
+
+    RebuildableIndex(S initial, BiConsumer<S, C> applier) {
+        this.state = initial;
+        this.applier = applier;
+    }
+
+    // Devuelve el estado recién cargado, ya con los cambios pendientes aplicados
+    S rebuild(Supplier<S> loader) {
+        // Restos de una reconstrucción fallida: ya están en el estado actual y serían anteriores a la carga
+        pendingDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            S fresh = loader.get();
+            lock.writeLock().lock();
+            try {
+                state = fresh;
+                rebuilding = false;
+                // Escrituras que llegaron mientras se leía la base de datos
+                C pending;
+                while ((pending = pendingDuringRebuild.poll()) != null) {
+                    applier.accept(state, pending);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return fresh;
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    // Se aplica tras el commit para no indexar cambios que luego se deshacen
+    void applyAfterCommit(C change) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding) {
+                    pendingDuringRebuild.add(change);
+                }
+                applier.accept(state, change);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    <R> R read(Function<S, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.luiscm.forohub.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.service.DigestSender.Digest;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Resúmenes de respuestas nuevas para los autores de los tópicos. Recorre replies
+ * en orden de commit (commit_seq) a partir de una marca persistida (digest_watermarks),
+ * por lotes, y agrupa por destinatario y tópico: el coste depende solo de las
+ * respuestas nuevas. Los resúmenes y la nueva marca se escriben en la misma
+ * transacción, así que tras una caída el lote se vuelve a procesar sin duplicar.
+ * Antes de enviar, cada resumen se reserva para una sola instancia; desde ese
+ * momento no cambia y las respuestas que lleguen abren un resumen nuevo.
+ */
+@Service
+public class ReplyDigestService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplyDigestService.class);
+
+    record ScannedReply(long commitSeq, long replyId, long topicId, long recipientId, long authorId,
+                        boolean active) {
+    }
+
+    record PendingDigest(long recipientId, long topicId, long firstReplyId, long lastReplyId, int replyCount) {
+    }
+
+    @Autowired
+    private DigestStore store;
+
+    @Autowired
+    private ObjectProvider<DigestSender> senderProvider;
+
+    @Value("${forohub.digest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${forohub.digest.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${forohub.digest.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${forohub.digest.window-ms:600000}")
+    private long windowMs;
+
+    @Value("${forohub.digest.send-batch-size:200}")
+    private int sendBatchSize;
+
+    @Value("${forohub.digest.claim-timeout-ms:300000}")
+    private long claimTimeoutMs;
+
+    private DigestSender sender;
+
+    @PostConstruct
+    void initSender() {
+        sender = senderProvider.getIfAvailable(LoggingDigestSender::new);
+    }
+
+    @Scheduled(fixedDelayString = "${forohub.digest.scan-interval-ms:60000}")
+    public void scan() {
+        if (!enabled) {
+            return;
+        }
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            long watermark = store.watermark();
+            List<ScannedReply> replies = store.repliesAfter(watermark, batchSize);
+            if (replies.isEmpty()) {
+                return;
+            }
+            // Si otra instancia procesó el lote, la siguiente vuelta parte de su marca
+            boolean applied = store.addPending(watermark, replies.get(replies.size() - 1).commitSeq(),
+                group(replies));
+            if (applied && replies.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // Solo se envían resúmenes con cierta antigüedad: mientras tanto siguen acumulando respuestas
+    @Scheduled(fixedDelayString = "${forohub.digest.send-interval-ms:60000}")
+    public void sendDue() {
+        if (!enabled) {
+            return;
+        }
+        String claimToken = UUID.randomUUID().toString();
+        for (Digest digest : store.claimDue(claimToken, windowMs, claimTimeoutMs, sendBatchSize)) {
+            try {
+                sender.send(digest);
+            } catch (RuntimeException e) {
+                // La reserva caduca y el resumen se vuelve a intentar, sin mezclarse con respuestas nuevas
+                log.warn("No se pudo enviar el resumen {}; se reintentará", digest.digestId(), e);
+                continue;
+            }
+            if (!store.markSent(digest.digestId(), claimToken)) {
+                log.warn("La reserva del resumen {} caducó antes de marcarlo como enviado", digest.digestId());
+            }
+        }
+    }
+
+    // Agrupa por (destinatario, tópico); no se notifica a nadie de sus propias respuestas
+    static List<PendingDigest> group(List<ScannedReply> replies) {
+        Map<List<Long>, PendingDigest> grouped = new LinkedHashMap<>();
+        for (ScannedReply reply : replies) {
+            if (!reply.active() || reply.recipientId() == reply.authorId()) {
+                continue;
+            }
+            grouped.merge(List.of(reply.recipientId(), reply.topicId()),
+                new PendingDigest(reply.recipientId(), reply.topicId(), reply.replyId(), reply.replyId(), 1),
+                (current, added) -> new PendingDigest(current.recipientId(), current.topicId(),
+                    Math.min(current.firstReplyId(), added.firstReplyId()),
+                    Math.max(current.lastReplyId(), added.lastReplyId()),
+                    current.replyCount() + added.replyCount()));
+        }
+        return new ArrayList<>(grouped.values());
+    }
+}
@@ -0,0 +1,49 @@
+package com.luiscm.forohub.service;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.model.Tag;
+import com.luiscm.forohub.repository.TagRepository;
+
+@Service
+public class TagService {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public static Set<String> normalize(Set<String> names) {
+        return names.stream()
+            .map(name -> name.trim().toLowerCase(Locale.ROOT))
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+    }
+
+    // Devuelve las etiquetas con esos nombres, creando las que no existan
+    public Set<Tag> resolve(Set<String> names) {
+        Set<String> normalized = normalize(names);
+        Set<Tag> tags = new HashSet<>(tagRepository.findByNameIn(normalized));
+        Set<String> missing = new HashSet<>(normalized);
+        tags.forEach(tag -> missing.remove(tag.getName()));
+
+        // El alta va en la transacción de quien llama: si otra petición crea la misma etiqueta a la vez,
+        // el duplicado no falla y LAST_INSERT_ID devuelve el id de la fila existente. Una lectura normal
+        // no la vería si se confirmó después de empezar esta transacción
+        for (String name : missing) {
+            jdbcTemplate.update("INSERT INTO tags (name) VALUES (?) "
+                + "ON DUPLICATE KEY UPDATE tag_id = LAST_INSERT_ID(tag_id)", name);
+            Long tagId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+            tags.add(new Tag(tagId, name));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,244 @@
+package com.luiscm.forohub.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.Tag;
+import com.luiscm.forohub.model.Topic;
+
+/**
+ * Índice en memoria de bitmaps comprimidos (Roaring) sobre los ids de tópico,
+ * por etiqueta, curso, estado y activo. Resuelve filtros AND/OR y conteos de
+ * facetas con operaciones sobre bitmaps en lugar de joins y GROUP BY.
+ */
+@Service
+public class TopicFacetIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicFacetIndex.class);
+    private static final int MAX_TAG_FACETS = 20;
+
+    public record TopicFacets(int topicId, Long courseId, StatusTopic status, boolean active, Set<String> tags) {
+    }
+
+    public record Query(Set<String> tags, boolean matchAll, Long courseId, StatusTopic status, boolean includeInactive) {
+    }
+
+    public record Result(List<Long> topicIds, long total, Map<String, Integer> tagFacets,
+                         Map<StatusTopic, Integer> statusFacets, Map<Long, Integer> courseFacets) {
+    }
+
+    private static final class Bitmaps {
+        final RoaringBitmap all = new RoaringBitmap();
+        final RoaringBitmap active = new RoaringBitmap();
+        final Map<String, RoaringBitmap> byTag = new HashMap<>();
+        final Map<Long, RoaringBitmap> byCourse = new HashMap<>();
+        final Map<StatusTopic, RoaringBitmap> byStatus = new EnumMap<>(StatusTopic.class);
+        final Map<Integer, TopicFacets> topics = new HashMap<>();
+
+        void add(TopicFacets facets) {
+            remove(facets.topicId());
+            int id = facets.topicId();
+            all.add(id);
+            if (facets.active()) {
+                active.add(id);
+            }
+            if (facets.courseId() != null) {
+                byCourse.computeIfAbsent(facets.courseId(), key -> new RoaringBitmap()).add(id);
+            }
+            byStatus.computeIfAbsent(facets.status(), key -> new RoaringBitmap()).add(id);
+            for (String tag : facets.tags()) {
+                byTag.computeIfAbsent(tag, key -> new RoaringBitmap()).add(id);
+            }
+            topics.put(id, facets);
+        }
+
+        void remove(int id) {
+            TopicFacets previous = topics.remove(id);
+            if (previous == null) {
+                return;
+            }
+            all.remove(id);
+            active.remove(id);
+            if (previous.courseId() != null) {
+                byCourse.get(previous.courseId()).remove(id);
+            }
+            byStatus.get(previous.status()).remove(id);
+            for (String tag : previous.tags()) {
+                byTag.get(tag).remove(id);
+            }
+        }
+    }
+
+    private final RebuildableIndex<Bitmaps, TopicFacets> index = new RebuildableIndex<>(new Bitmaps(), Bitmaps::add);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long[] skipped = {0};
+        Bitmaps fresh = index.rebuild(() -> {
+            Map<Integer, Set<String>> tagsByTopic = new HashMap<>();
+            jdbcTemplate.query("""
+                    SELECT tt.topic_id, t.name
+                    FROM topic_tags tt
+                    JOIN tags t ON t.tag_id = tt.tag_id
+                    """, row -> {
+                long topicId = row.getLong(1);
+                if (TopicIds.indexable(topicId)) {
+                    tagsByTopic.computeIfAbsent(TopicIds.toBitmap(topicId), key -> new HashSet<>())
+                        .add(row.getString(2));
+                }
+            });
+
+            var bitmaps = new Bitmaps();
+            jdbcTemplate.query("SELECT topic_id, course_id, status, active FROM topics", row -> {
+                if (!TopicIds.indexable(row.getLong(1))) {
+                    skipped[0]++;
+                    return;
+                }
+                int topicId = TopicIds.toBitmap(row.getLong(1));
+                long courseId = row.getLong(2);
+                bitmaps.add(new TopicFacets(
+                    topicId,
+                    row.wasNull() ? null : courseId,
+                    StatusTopic.valueOf(row.getString(3)),
+                    row.getBoolean(4),
+                    tagsByTopic.getOrDefault(topicId, Set.of())));
+            });
+            return bitmaps;
+        });
+
+        if (skipped[0] > 0) {
+            log.warn("{} tópicos con id mayor que {} no se indexan en las facetas", skipped[0],
+                TopicIds.MAX_INDEXABLE);
+        }
+        log.info("Índice de facetas de tópicos reconstruido: {} tópicos en {} ms",
+            fresh.topics.size(), System.currentTimeMillis() - start);
+    }
+
+    public void index(Topic topic) {
+        // Un id fuera de rango no debe detener la entrega de eventos: el tópico solo falta en las búsquedas
+        if (!TopicIds.indexable(topic.getTopicId())) {
+            log.warn("El tópico {} supera el id máximo indexable y no aparecerá en las facetas", topic.getTopicId());
+            return;
+        }
+        var facets = new TopicFacets(
+            TopicIds.toBitmap(topic.getTopicId()),
+            topic.getCourse() != null ? topic.getCourse().getCourseId() : null,
+            topic.getStatus(),
+            topic.isActive(),
+            topic.getTags().stream().map(Tag::getName).collect(Collectors.toUnmodifiableSet()));
+        index.applyAfterCommit(facets);
+    }
+
+    public Result search(Query query, int page, int size) {
+        return index.read(bitmaps -> {
+            RoaringBitmap visible = query.includeInactive() ? bitmaps.all : bitmaps.active;
+            RoaringBitmap byTags = query.tags() != null && !query.tags().isEmpty()
+                ? combineTags(bitmaps, query.tags(), query.matchAll()) : null;
+            RoaringBitmap byCourse = bitmapOrEmpty(bitmaps.byCourse, query.courseId());
+            RoaringBitmap byStatus = bitmapOrEmpty(bitmaps.byStatus, query.status());
+
+            // Cada faceta se cuenta con el resto de filtros aplicados, sin el suyo propio
+            RoaringBitmap withoutTags = intersect(visible, null, byCourse, byStatus);
+            RoaringBitmap withoutStatus = intersect(visible, byTags, byCourse, null);
+            RoaringBitmap withoutCourse = intersect(visible, byTags, null, byStatus);
+            RoaringBitmap result = byTags != null ? RoaringBitmap.and(withoutTags, byTags) : withoutTags;
+
+            Map<StatusTopic, Integer> statusFacets = new EnumMap<>(StatusTopic.class);
+            bitmaps.byStatus.forEach((status, bitmap) ->
+                statusFacets.put(status, RoaringBitmap.andCardinality(withoutStatus, bitmap)));
+
+            Map<Long, Integer> courseFacets = counts(bitmaps.byCourse, withoutCourse, Integer.MAX_VALUE);
+            Map<String, Integer> tagFacets = counts(bitmaps.byTag, withoutTags, MAX_TAG_FACETS);
+
+            return new Result(pageOf(result, page, size), result.getLongCardinality(),
+                tagFacets, statusFacets, courseFacets);
+        });
+    }
+
+    private static RoaringBitmap combineTags(Bitmaps bitmaps, Collection<String> tags, boolean matchAll) {
+        List<RoaringBitmap> selected = new ArrayList<>();
+        for (String tag : tags) {
+            RoaringBitmap bitmap = bitmaps.byTag.get(tag);
+            if (bitmap == null && matchAll) {
+                return new RoaringBitmap();
+            }
+            if (bitmap != null) {
+                selected.add(bitmap);
+            }
+        }
+        if (selected.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        RoaringBitmap combined = selected.get(0).clone();
+        for (RoaringBitmap bitmap : selected.subList(1, selected.size())) {
+            if (matchAll) {
+                combined.and(bitmap);
+            } else {
+                combined.or(bitmap);
+            }
+        }
+        return combined;
+    }
+
+    // Los filtros null no se aplican; el resultado es siempre una copia
+    private static RoaringBitmap intersect(RoaringBitmap visible, RoaringBitmap... filters) {
+        RoaringBitmap result = visible.clone();
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static <K> RoaringBitmap bitmapOrEmpty(Map<K, RoaringBitmap> bitmaps, K key) {
+        if (key == null) {
+            return null;
+        }
+        return bitmaps.getOrDefault(key, new RoaringBitmap());
+    }
+
+    private static <K> Map<K, Integer> counts(Map<K, RoaringBitmap> bitmaps, RoaringBitmap within, int limit) {
+        return bitmaps.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), RoaringBitmap.andCardinality(within, entry.getValue())))
+            .filter(entry -> entry.getValue() > 0)
+            .sorted(Map.Entry.<K, Integer>comparingByValue().reversed())
+            .limit(limit)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    // Los más recientes primero: los ids crecen con la fecha de creación
+    private static List<Long> pageOf(RoaringBitmap result, int page, int size) {
+        long total = result.getLongCardinality();
+        long from = (long) page * size;
+        long to = Math.min(from + size, total);
+
+        List<Long> ids = new ArrayList<>();
+        for (long position = from; position < to; position++) {
+            ids.add(TopicIds.fromBitmap(result.select((int) (total - 1 - position))));
+        }
+        return ids;
+    }
+}
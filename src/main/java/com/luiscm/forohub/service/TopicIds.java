@@ -0,0 +1,22 @@
+package com.luiscm.forohub.service;
+
+// Los índices en memoria guardan los ids de tópico en bitmaps de 32 bits (sin signo)
+final class TopicIds {
+
+    static final long MAX_INDEXABLE = 0xFFFF_FFFFL;
+
+    private TopicIds() {
+    }
+
+    static boolean indexable(long topicId) {
+        return topicId >= 0 && topicId <= MAX_INDEXABLE;
+    }
+
+    static int toBitmap(long topicId) {
+        return (int) topicId;
+    }
+
+    static long fromBitmap(int value) {
+        return Integer.toUnsignedLong(value);
+    }
+}
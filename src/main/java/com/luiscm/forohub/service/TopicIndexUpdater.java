@@ -0,0 +1,67 @@
+package com.luiscm.forohub.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.model.Topic;
+import com.luiscm.forohub.model.event.DomainEvent;
+import com.luiscm.forohub.model.event.TopicCreated;
+import com.luiscm.forohub.model.event.TopicDeleted;
+import com.luiscm.forohub.model.event.TopicUpdated;
+import com.luiscm.forohub.repository.TopicRepository;
+
+/**
+ * Mantiene al día los índices en memoria de tópicos (facetas y similitud) en cada
+ * instancia a partir del outbox. Los tópicos se vuelven a leer de la base de datos,
+ * así que reaplicar un lote o recibir eventos ya reflejados en una reconstrucción
+ * solo vuelve a indexar el estado actual.
+ */
+@Service
+public class TopicIndexUpdater implements DomainEventConsumer {
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private TopicFacetIndex topicFacetIndex;
+
+    @Autowired
+    private TopicSimilarityIndex topicSimilarityIndex;
+
+    @Override
+    public String consumerName() {
+        return "topic-indexes";
+    }
+
+    // Los índices son de esta instancia: todas deben ver cada evento
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        Set<Long> topicIds = new LinkedHashSet<>();
+        for (DomainEvent event : events) {
+            if (event instanceof TopicCreated created) {
+                topicIds.add(created.topicId());
+            } else if (event instanceof TopicUpdated updated) {
+                topicIds.add(updated.topicId());
+            } else if (event instanceof TopicDeleted deleted) {
+                topicIds.add(deleted.topicId());
+            }
+        }
+        if (topicIds.isEmpty()) {
+            return;
+        }
+        // Los borrados son lógicos: el tópico sigue existiendo, inactivo
+        for (Topic topic : topicRepository.findWithTagsByTopicIdIn(topicIds)) {
+            topicFacetIndex.index(topic);
+            topicSimilarityIndex.index(topic);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.luiscm.forohub.service;
+
+import java.sql.ResultSet;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.model.Topic;
+
+/**
+ * Índice en memoria para sugerir tópicos duplicados. Cada tópico activo se resume
+ * en una firma MinHash de los pares de palabras de título y mensaje; las firmas se
+ * reparten en bandas (LSH) por curso, de modo que solo se comparan los tópicos que
+ * comparten al menos una banda completa con el texto consultado.
+ */
+@Service
+public class TopicSimilarityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicSimilarityIndex.class);
+
+    // 16 bandas de 4 filas: umbral de candidatos en torno a una similitud de 0,5
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+    private static final long[] SEEDS = new long[HASHES];
+    private static final long NO_COURSE = -1L;
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < HASHES; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    public record Match(long topicId, double similarity) {
+    }
+
+    private record Entry(long courseKey, int[] signature) {
+    }
+
+    private static final class Buckets {
+        final List<Map<Long, RoaringBitmap>> bands = new ArrayList<>(BANDS);
+
+        Buckets() {
+            for (int band = 0; band < BANDS; band++) {
+                bands.add(new HashMap<>());
+            }
+        }
+    }
+
+    private static final class Signatures {
+        final Map<Long, Buckets> byCourse = new HashMap<>();
+        final Map<Integer, Entry> topics = new HashMap<>();
+
+        void add(int topicId, Entry entry) {
+            remove(topicId);
+            Buckets buckets = byCourse.computeIfAbsent(entry.courseKey(), key -> new Buckets());
+            for (int band = 0; band < BANDS; band++) {
+                buckets.bands.get(band)
+                    .computeIfAbsent(bandKey(entry.signature(), band), key -> new RoaringBitmap())
+                    .add(topicId);
+            }
+            topics.put(topicId, entry);
+        }
+
+        void apply(Pending pending) {
+            if (pending.entry() == null) {
+                remove(pending.topicId());
+            } else {
+                add(pending.topicId(), pending.entry());
+            }
+        }
+
+        void remove(int topicId) {
+            Entry previous = topics.remove(topicId);
+            if (previous == null) {
+                return;
+            }
+            Buckets buckets = byCourse.get(previous.courseKey());
+            for (int band = 0; band < BANDS; band++) {
+                Map<Long, RoaringBitmap> bucket = buckets.bands.get(band);
+                long key = bandKey(previous.signature(), band);
+                RoaringBitmap members = bucket.get(key);
+                members.remove(topicId);
+                if (members.isEmpty()) {
+                    bucket.remove(key);
+                }
+            }
+        }
+    }
+
+    // Cambio pendiente aplicado al terminar una reconstrucción; entry null significa borrado
+    private record Pending(int topicId, Entry entry) {
+    }
+
+    private final RebuildableIndex<Signatures, Pending> index =
+        new RebuildableIndex<>(new Signatures(), Signatures::apply);
+
+    @Value("${forohub.similar-topics.threshold:0.5}")
+    private double threshold;
+
+    @Value("${forohub.similar-topics.max-results:5}")
+    private int maxResults;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long[] skipped = {0};
+        Signatures fresh = index.rebuild(() -> {
+            var signatures = new Signatures();
+            // Lectura en streaming: MySQL solo entrega filas una a una con fetchSize = Integer.MIN_VALUE
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(
+                    "SELECT topic_id, course_id, title, message FROM topics WHERE active",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(Integer.MIN_VALUE);
+                return statement;
+            }, row -> {
+                if (!TopicIds.indexable(row.getLong(1))) {
+                    skipped[0]++;
+                    return;
+                }
+                long courseId = row.getLong(2);
+                long courseKey = row.wasNull() ? NO_COURSE : courseId;
+                int[] signature = signature(row.getString(3), row.getString(4));
+                if (signature != null) {
+                    signatures.add(TopicIds.toBitmap(row.getLong(1)), new Entry(courseKey, signature));
+                }
+            });
+            return signatures;
+        });
+
+        if (skipped[0] > 0) {
+            log.warn("{} tópicos con id mayor que {} no se indexan para sugerir duplicados", skipped[0],
+                TopicIds.MAX_INDEXABLE);
+        }
+        log.info("Índice de similitud de tópicos reconstruido: {} tópicos en {} ms",
+            fresh.topics.size(), System.currentTimeMillis() - start);
+    }
+
+    public void index(Topic topic) {
+        // Un id fuera de rango no debe detener la entrega de eventos: el tópico solo deja de sugerirse
+        if (!TopicIds.indexable(topic.getTopicId())) {
+            log.warn("El tópico {} supera el id máximo indexable y no se sugerirá como duplicado",
+                topic.getTopicId());
+            return;
+        }
+        int topicId = TopicIds.toBitmap(topic.getTopicId());
+        int[] signature = topic.isActive() ? signature(topic.getTitle(), topic.getMessage()) : null;
+        var pending = new Pending(topicId, signature != null
+            ? new Entry(courseKey(topic.getCourse() != null ? topic.getCourse().getCourseId() : null), signature)
+            : null);
+        index.applyAfterCommit(pending);
+    }
+
+    public List<Match> findSimilar(Long courseId, String title, String message) {
+        int[] signature = signature(title, message);
+        if (signature == null) {
+            return List.of();
+        }
+
+        return index.read(signatures -> {
+            Buckets buckets = signatures.byCourse.get(courseKey(courseId));
+            if (buckets == null) {
+                return List.of();
+            }
+            var candidates = new RoaringBitmap();
+            for (int band = 0; band < BANDS; band++) {
+                RoaringBitmap members = buckets.bands.get(band).get(bandKey(signature, band));
+                if (members != null) {
+                    candidates.or(members);
+                }
+            }
+
+            List<Match> matches = new ArrayList<>();
+            candidates.forEach((int topicId) -> {
+                double similarity = estimate(signature, signatures.topics.get(topicId).signature());
+                if (similarity >= threshold) {
+                    matches.add(new Match(TopicIds.fromBitmap(topicId), similarity));
+                }
+            });
+            matches.sort((a, b) -> Double.compare(b.similarity(), a.similarity()));
+            return matches.size() > maxResults ? List.copyOf(matches.subList(0, maxResults)) : matches;
+        });
+    }
+
+    // null si el texto no tiene palabras: no hay nada que comparar
+    static int[] signature(String title, String message) {
+        Set<Long> shingles = shingles(title + " " + message);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < HASHES; i++) {
+                int hash = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // Pares de palabras consecutivas sin acentos ni mayúsculas; los textos de una palabra usan esa palabra
+    static Set<Long> shingles(String text) {
+        String normalized = Normalizer.normalize(text == null ? "" : text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^\\p{Alnum}]+", " ")
+            .strip();
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        String[] words = normalized.split(" ");
+        Set<Long> shingles = new HashSet<>();
+        if (words.length == 1) {
+            shingles.add(hash(words[0]));
+        }
+        for (int i = 0; i + 1 < words.length; i++) {
+            shingles.add(hash(words[i] + " " + words[i + 1]));
+        }
+        return shingles;
+    }
+
+    static double estimate(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = mix(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    private static long courseKey(Long courseId) {
+        return courseId != null ? courseId : NO_COURSE;
+    }
+
+    // FNV-1a de 64 bits
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Finalizador de splitmix64
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
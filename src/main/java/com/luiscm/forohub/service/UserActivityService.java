@@ -0,0 +1,108 @@
+package com.luiscm.forohub.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.luiscm.forohub.exception.ResourceNotFoundException;
+import com.luiscm.forohub.model.dto.TopAnswererDTO;
+import com.luiscm.forohub.model.dto.UserActivityDTO;
+import com.luiscm.forohub.model.event.DomainEvent;
+import com.luiscm.forohub.model.event.ReplyCreated;
+import com.luiscm.forohub.model.event.ReplyDeleted;
+import com.luiscm.forohub.model.event.SolutionMarked;
+import com.luiscm.forohub.model.event.TopicCreated;
+import com.luiscm.forohub.model.event.TopicDeleted;
+import com.luiscm.forohub.model.event.UserDeactivated;
+import com.luiscm.forohub.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class UserActivityService implements DomainEventConsumer {
+
+    private static final int MAX_LEADERBOARD_SIZE = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${forohub.user-activity.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${forohub.user-activity.cache-ttl-ms:300000}")
+    private long cacheTtlMs;
+
+    @Value("${forohub.user-activity.leaderboard-ttl-ms:30000}")
+    private long leaderboardTtlMs;
+
+    private BoundedCache<Long, UserActivityDTO> activityCache;
+    private BoundedCache<Long, List<TopAnswererDTO>> leaderboardCache;
+
+    @PostConstruct
+    void initCaches() {
+        activityCache = new BoundedCache<>(cacheSize, cacheTtlMs);
+        leaderboardCache = new BoundedCache<>(1000, leaderboardTtlMs);
+    }
+
+    public UserActivityDTO getActivity(Long userId) {
+        return activityCache.computeIfAbsent(userId, id -> {
+            if (!userRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Usuario no encontrado");
+            }
+            var activity = userRepository.findActivity(id);
+            return new UserActivityDTO(id, activity.getTopics(), activity.getReplies(),
+                activity.getSolutions(), activity.getLastActivity());
+        });
+    }
+
+    // El ranking completo se cachea; limit solo recorta la lista
+    public List<TopAnswererDTO> getTopAnswerers(Long courseId, int limit) {
+        List<TopAnswererDTO> ranking = leaderboardCache.computeIfAbsent(courseId, id ->
+            userRepository.findTopAnswerers(id, MAX_LEADERBOARD_SIZE).stream()
+                .map(row -> new TopAnswererDTO(row.getUserId(), row.getName(), row.getSolutions(), row.getReplies()))
+                .toList());
+        return ranking.subList(0, Math.min(Math.max(limit, 0), ranking.size()));
+    }
+
+    @Override
+    public String consumerName() {
+        return "user-activity";
+    }
+
+    // Las cachés son de esta instancia: todas deben ver cada evento
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    // Los eventos llegan tras el commit. Una lectura que empezó antes puede terminar después con datos
+    // viejos: BoundedCache descarta ese resultado porque la clave se invalidó durante la carga
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof TopicCreated created) {
+                activityCache.invalidate(created.userId());
+            } else if (event instanceof TopicDeleted deleted) {
+                invalidate(deleted.userId(), deleted.courseId());
+            } else if (event instanceof ReplyCreated created) {
+                invalidate(created.userId(), created.courseId());
+            } else if (event instanceof ReplyDeleted deleted) {
+                invalidate(deleted.userId(), deleted.courseId());
+            } else if (event instanceof SolutionMarked marked) {
+                invalidate(marked.userId(), marked.courseId());
+            } else if (event instanceof UserDeactivated deactivated) {
+                activityCache.invalidate(deactivated.userId());
+                leaderboardCache.invalidateAll();
+            }
+        }
+    }
+
+    private void invalidate(Long userId, Long courseId) {
+        activityCache.invalidate(userId);
+        if (courseId != null) {
+            leaderboardCache.invalidate(courseId);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+CREATE TABLE topic_read_state (
+    user_id BIGINT NOT NULL,
+    topic_id BIGINT NOT NULL,
+    last_read_reply_id BIGINT NOT NULL DEFAULT 0,
+    read_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (user_id, topic_id),
+    CONSTRAINT fk_read_state_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_read_state_topic
+        FOREIGN KEY (topic_id) REFERENCES topics(topic_id) ON DELETE CASCADE
+);
@@ -0,0 +1,15 @@
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    state VARCHAR(20) NOT NULL
+        CHECK (state IN ('PENDING', 'COMPLETED')),
+    response_status INT,
+    location VARCHAR(255),
+    content_type VARCHAR(100),
+    body MEDIUMBLOB,
+    created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    expires_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
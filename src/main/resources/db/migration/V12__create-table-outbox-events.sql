@@ -0,0 +1,14 @@
+CREATE TABLE outbox_events (
+    event_id BIGINT NOT NULL AUTO_INCREMENT,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSON NOT NULL,
+    created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (event_id)
+);
+
+CREATE TABLE event_consumer_offsets (
+    consumer VARCHAR(100) NOT NULL,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (consumer)
+);
@@ -0,0 +1,31 @@
+CREATE TABLE digest_watermarks (
+    job VARCHAR(50) NOT NULL,
+    last_reply_id BIGINT NOT NULL,
+    updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (job)
+);
+
+-- Solo se notifican respuestas posteriores a la migración
+INSERT INTO digest_watermarks (job, last_reply_id)
+SELECT 'reply-digest', COALESCE(MAX(reply_id), 0) FROM replies;
+
+CREATE TABLE notification_digests (
+    digest_id BIGINT NOT NULL AUTO_INCREMENT,
+    recipient_id BIGINT NOT NULL,
+    topic_id BIGINT NOT NULL,
+    first_reply_id BIGINT NOT NULL,
+    last_reply_id BIGINT NOT NULL,
+    reply_count INT NOT NULL,
+    created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    sent_at TIMESTAMP(3) NULL,
+    -- 1 mientras no se ha enviado: como mucho un resumen pendiente por destinatario y tópico
+    pending TINYINT AS (IF(sent_at IS NULL, 1, NULL)) STORED,
+    PRIMARY KEY (digest_id),
+    UNIQUE KEY uk_digest_pending (recipient_id, topic_id, pending),
+    CONSTRAINT fk_digest_recipient
+        FOREIGN KEY (recipient_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_digest_topic
+        FOREIGN KEY (topic_id) REFERENCES topics(topic_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_digests_pending_created ON notification_digests(pending, created_at);
@@ -0,0 +1,19 @@
+-- Contador que se incrementa justo antes del commit: el bloqueo de su fila ordena los
+-- commits de los escritores, así que commit_seq crece en orden de confirmación
+CREATE TABLE commit_sequence (
+    name VARCHAR(50) NOT NULL,
+    value BIGINT NOT NULL,
+    PRIMARY KEY (name)
+);
+
+ALTER TABLE change_log ADD COLUMN commit_seq BIGINT NULL;
+
+-- Los cursores ya entregados (change_id) siguen siendo válidos
+UPDATE change_log SET commit_seq = change_id;
+
+INSERT INTO commit_sequence (name, value)
+SELECT 'global', COALESCE(MAX(change_id), 0) FROM change_log;
+
+CREATE UNIQUE INDEX idx_change_log_commit_seq ON change_log(commit_seq);
+DROP INDEX idx_change_log_entity ON change_log;
+CREATE INDEX idx_change_log_entity ON change_log(entity_type, entity_id, commit_seq);
@@ -0,0 +1,8 @@
+-- Se guardan todas las cabeceras de la respuesta original, no solo Location
+ALTER TABLE idempotency_keys ADD COLUMN headers JSON;
+
+UPDATE idempotency_keys
+SET headers = JSON_OBJECT('Location', JSON_ARRAY(location))
+WHERE location IS NOT NULL;
+
+ALTER TABLE idempotency_keys DROP COLUMN location;
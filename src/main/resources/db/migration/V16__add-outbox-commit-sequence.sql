@@ -0,0 +1,13 @@
+-- Los consumidores leen outbox_events en orden de commit, igual que change_log (V14)
+ALTER TABLE outbox_events ADD COLUMN commit_seq BIGINT NULL;
+
+-- Las posiciones ya guardadas (event_id) siguen siendo válidas
+UPDATE outbox_events SET commit_seq = event_id;
+
+UPDATE commit_sequence
+SET value = GREATEST(value, (SELECT COALESCE(MAX(event_id), 0) FROM outbox_events))
+WHERE name = 'global';
+
+CREATE UNIQUE INDEX idx_outbox_events_commit_seq ON outbox_events(commit_seq);
+
+ALTER TABLE event_consumer_offsets RENAME COLUMN last_event_id TO last_commit_seq;
@@ -0,0 +1,21 @@
+-- Los resúmenes recorren replies en orden de commit, igual que change_log (V14)
+ALTER TABLE replies ADD COLUMN commit_seq BIGINT NULL;
+
+-- La marca ya guardada (reply_id) sigue siendo válida
+UPDATE replies SET commit_seq = reply_id;
+
+UPDATE commit_sequence
+SET value = GREATEST(value, (SELECT COALESCE(MAX(reply_id), 0) FROM replies))
+WHERE name = 'global';
+
+CREATE UNIQUE INDEX idx_replies_commit_seq ON replies(commit_seq);
+
+ALTER TABLE digest_watermarks RENAME COLUMN last_reply_id TO last_commit_seq;
+
+-- Un resumen reservado para envío ya no está pendiente: las respuestas nuevas abren otro
+ALTER TABLE notification_digests
+    ADD COLUMN claimed_by CHAR(36) NULL,
+    ADD COLUMN claimed_at TIMESTAMP(3) NULL,
+    MODIFY COLUMN pending TINYINT AS (IF(sent_at IS NULL AND claimed_at IS NULL, 1, NULL)) STORED;
+
+CREATE INDEX idx_digests_claimed_at ON notification_digests(claimed_at);
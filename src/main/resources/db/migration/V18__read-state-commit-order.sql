@@ -0,0 +1,11 @@
+-- La marca de lectura sigue el orden de commit: una respuesta con reply_id menor puede
+-- confirmarse después de que el usuario leyera otras más recientes
+ALTER TABLE topic_read_state ADD COLUMN last_read_commit_seq BIGINT NOT NULL DEFAULT 0 AFTER last_read_reply_id;
+
+-- Cada marca pasa al commit_seq de la respuesta que señalaba
+UPDATE topic_read_state s
+JOIN replies r ON r.reply_id = s.last_read_reply_id
+SET s.last_read_commit_seq = COALESCE(r.commit_seq, 0);
+
+-- Las respuestas no leídas de un tópico son un rango "topic_id = ? AND commit_seq > marca"
+CREATE INDEX idx_replies_topic_commit_seq ON replies(topic_id, commit_seq);
@@ -0,0 +1,3 @@
+-- Solo quien reclamó la clave puede completarla o liberarla: si caduca y la reclama
+-- otra petición, la respuesta tardía de la primera no la sobrescribe
+ALTER TABLE idempotency_keys ADD COLUMN claim_token CHAR(36) NULL;
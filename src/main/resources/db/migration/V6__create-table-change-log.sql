@@ -0,0 +1,11 @@
+CREATE TABLE change_log (
+    change_id BIGINT NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (change_id)
+);
+
+CREATE INDEX idx_change_log_entity ON change_log(entity_type, entity_id, change_id);
+CREATE INDEX idx_change_log_created_at ON change_log(created_at);
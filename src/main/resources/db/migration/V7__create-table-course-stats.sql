@@ -0,0 +1,23 @@
+CREATE TABLE course_stats (
+    course_id BIGINT NOT NULL,
+    topic_count BIGINT NOT NULL DEFAULT 0,
+    open_topic_count BIGINT NOT NULL DEFAULT 0,
+    solved_topic_count BIGINT NOT NULL DEFAULT 0,
+    reply_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (course_id),
+    CONSTRAINT fk_course_stats_course
+        FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE CASCADE
+);
+
+INSERT INTO course_stats (course_id, topic_count, open_topic_count, solved_topic_count, reply_count)
+SELECT c.course_id,
+       COUNT(t.topic_id),
+       COALESCE(SUM(t.status IN ('NO_RESPONSE', 'NO_SOLUTION')), 0),
+       COALESCE(SUM(t.status = 'SOLVED'), 0),
+       (SELECT COUNT(*) FROM replies r
+            JOIN topics rt ON rt.topic_id = r.topic_id
+        WHERE rt.course_id = c.course_id AND rt.active AND r.active)
+FROM courses c
+LEFT JOIN topics t ON t.course_id = c.course_id AND t.active
+GROUP BY c.course_id;
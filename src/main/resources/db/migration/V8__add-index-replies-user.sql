@@ -0,0 +1 @@
+CREATE INDEX idx_replies_user_id ON replies(user_id, active, solution, created_at);
@@ -0,0 +1,17 @@
+CREATE TABLE tags (
+    tag_id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL UNIQUE,
+    PRIMARY KEY (tag_id)
+);
+
+CREATE TABLE topic_tags (
+    topic_id BIGINT NOT NULL,
+    tag_id BIGINT NOT NULL,
+    PRIMARY KEY (topic_id, tag_id),
+    CONSTRAINT fk_topic_tags_topic
+        FOREIGN KEY (topic_id) REFERENCES topics(topic_id) ON DELETE CASCADE,
+    CONSTRAINT fk_topic_tags_tag
+        FOREIGN KEY (tag_id) REFERENCES tags(tag_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_topic_tags_tag_id ON topic_tags(tag_id);
@@ -0,0 +1,67 @@
+package com.luiscm.forohub.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void rejectsWhenLimitIsReached() {
+        var limiter = new AdaptiveConcurrencyLimiter(3, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void shrinksWhenLatencyGrowsAndRecoversWhenItDrops() {
+        var limiter = new AdaptiveConcurrencyLimiter(40, 2, 100);
+
+        saturate(limiter, FAST, 20);
+        int healthyLimit = limiter.getLimit();
+
+        saturate(limiter, SLOW, 20);
+        int overloadedLimit = limiter.getLimit();
+        assertTrue(overloadedLimit < healthyLimit / 2,
+            "el límite debería bajar con latencia alta: " + healthyLimit + " -> " + overloadedLimit);
+
+        saturate(limiter, FAST, 20);
+        assertTrue(limiter.getLimit() > overloadedLimit, "el límite debería recuperarse");
+    }
+
+    @Test
+    void doesNotGrowWhenUnderused() {
+        var limiter = new AdaptiveConcurrencyLimiter(20, 2, 100);
+
+        for (int i = 0; i < 500; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    // Ocupa todo el límite y libera cada permiso con la latencia indicada, varias rondas
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.luiscm.forohub.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.luiscm.forohub.config.ConcurrencyLimitFilter.EndpointClass;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void overloadedReadsAreShedWhileWritesKeepTheirCapacity() throws Exception {
+        Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+        limiters.put(EndpointClass.READ, new AdaptiveConcurrencyLimiter(2, 1, 2));
+        limiters.put(EndpointClass.WRITE, new AdaptiveConcurrencyLimiter(2, 1, 2));
+        limiters.put(EndpointClass.EXPENSIVE, new AdaptiveConcurrencyLimiter(1, 1, 1));
+        var filter = new ConcurrencyLimitFilter(limiters, meterRegistry);
+
+        // Dos lecturas lentas ocupan todo el límite de lecturas
+        var slowDatabase = new CountDownLatch(1);
+        var started = new CountDownLatch(2);
+        FilterChain blockingChain = (request, response) -> {
+            started.countDown();
+            try {
+                slowDatabase.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Future<?> first = executor.submit(() -> run(filter, "GET", "/topics", blockingChain));
+        Future<?> second = executor.submit(() -> run(filter, "GET", "/topics", blockingChain));
+        started.await(5, TimeUnit.SECONDS);
+
+        MockHttpServletResponse rejected = run(filter, "GET", "/replies", (request, response) -> { });
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+
+        MockHttpServletResponse write = run(filter, "POST", "/replies", (request, response) -> { });
+        assertEquals(200, write.getStatus());
+
+        slowDatabase.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1.0, meterRegistry.get("forohub.concurrency.rejected").tag("class", "read").functionCounter().count());
+        assertEquals(200, run(filter, "GET", "/topics", (request, response) -> { }).getStatus());
+    }
+
+    @Test
+    void longPollsHoldTheirOwnPermitUntilTheAsyncResponseCompletes() {
+        Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+        limiters.put(EndpointClass.READ, new AdaptiveConcurrencyLimiter(1, 1, 1));
+        limiters.put(EndpointClass.WRITE, new AdaptiveConcurrencyLimiter(1, 1, 1));
+        limiters.put(EndpointClass.EXPENSIVE, new AdaptiveConcurrencyLimiter(1, 1, 1));
+        limiters.put(EndpointClass.LONG_POLL, new AdaptiveConcurrencyLimiter(1, 1, 1));
+        var filter = new ConcurrencyLimitFilter(limiters, meterRegistry);
+
+        // La espera libera el hilo pero conserva el permiso mientras la respuesta sigue abierta
+        FilterChain startsAsync = (request, response) -> request.startAsync();
+        MockHttpServletRequest waiting = request("GET", "/changes?wait=30");
+        assertEquals(200, run(filter, waiting, startsAsync).getStatus());
+
+        assertEquals(503, run(filter, "GET", "/changes?wait=30", startsAsync).getStatus());
+        // wait=0 (o inválido) es una lectura costosa normal, con su propio límite
+        assertEquals(200, run(filter, "GET", "/changes?wait=0", (r, s) -> { }).getStatus());
+        assertEquals(200, run(filter, "GET", "/changes?wait=abc", (r, s) -> { }).getStatus());
+
+        waiting.getAsyncContext().complete();
+        assertEquals(200, run(filter, "GET", "/changes?wait=30", startsAsync).getStatus());
+        assertEquals(1.0, meterRegistry.get("forohub.concurrency.rejected").tag("class", "long_poll")
+            .functionCounter().count());
+    }
+
+    private static MockHttpServletResponse run(ConcurrencyLimitFilter filter, String method, String pathWithQuery,
+                                               FilterChain chain) {
+        return run(filter, request(method, pathWithQuery), chain);
+    }
+
+    private static MockHttpServletRequest request(String method, String pathWithQuery) {
+        String[] parts = pathWithQuery.split("\\?", 2);
+        var request = new MockHttpServletRequest(method, parts[0]);
+        request.setAsyncSupported(true);
+        if (parts.length > 1) {
+            String[] param = parts[1].split("=", 2);
+            request.setParameter(param[0], param[1]);
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse run(ConcurrencyLimitFilter filter, MockHttpServletRequest request,
+                                               FilterChain chain) {
+        var response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+}
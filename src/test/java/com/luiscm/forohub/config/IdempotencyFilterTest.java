@@ -0,0 +1,223 @@
+package com.luiscm.forohub.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.luiscm.forohub.service.IdempotencyStore;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"title\":\"Duda\",\"message\":\"Hola\",\"userId\":1}";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    // Resultado del UPDATE que guarda la respuesta: filas afectadas o una excepción
+    private volatile Supplier<Integer> completeResult = () -> 1;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // La base de datos acepta cualquier escritura: solo se ejercita el nivel en memoria
+        var jdbcTemplate = mock(JdbcTemplate.class, invocation -> {
+            if (!invocation.getMethod().getName().equals("update")) {
+                return RETURNS_DEFAULTS.answer(invocation);
+            }
+            String sql = invocation.getArgument(0);
+            statements.add(sql.strip().split("\\s+")[0]);
+            return sql.contains("state = 'COMPLETED'") ? completeResult.get() : 1;
+        });
+        var store = new IdempotencyStore();
+        ReflectionTestUtils.setField(store, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(store, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(store, "cacheSize", 100);
+        ReflectionTestUtils.setField(store, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(store, "pendingTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(store, "waitMs", 5_000L);
+        ReflectionTestUtils.setField(store, "persistAttempts", 3);
+        ReflectionTestUtils.setField(store, "persistBackoffMs", 0L);
+        ReflectionTestUtils.invokeMethod(store, "init");
+
+        filter = new IdempotencyFilter();
+        ReflectionTestUtils.setField(filter, "store", store);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void retryReplaysTheOriginalResponse() throws Exception {
+        var first = post("key-1", BODY, created());
+        var retry = post("key-1", BODY, created());
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getHeader(HttpHeaders.LOCATION), retry.getHeader(HttpHeaders.LOCATION));
+        assertEquals(List.of("7", "9"), retry.getHeaders("X-Similar-Topics"));
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void readListenerReceivesTheCachedBody() throws Exception {
+        var events = new ArrayList<String>();
+        FilterChain asyncReader = (request, response) -> {
+            var input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add("data:" + new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done");
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    events.add("error");
+                }
+            });
+            created().doFilter(request, response);
+        };
+
+        post("key-5", BODY, asyncReader);
+
+        assertEquals(List.of("data:" + BODY, "done"), events);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        post("key-2", BODY, created());
+        var reused = post("key-2", BODY.replace("Duda", "Otra duda"), created());
+
+        assertEquals(1, executions.get());
+        assertEquals(422, reused.getStatus());
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheFirstAttempt() throws Exception {
+        var firstStarted = new CountDownLatch(1);
+        var slowDatabase = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            firstStarted.countDown();
+            try {
+                slowDatabase.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(request, response);
+        };
+
+        Future<MockHttpServletResponse> first = executor.submit(() -> post("key-3", BODY, slowChain));
+        firstStarted.await(5, TimeUnit.SECONDS);
+        Future<MockHttpServletResponse> duplicate = executor.submit(() -> post("key-3", BODY, created()));
+        Thread.sleep(100);
+        slowDatabase.countDown();
+
+        assertEquals(201, first.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(201, duplicate.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void serverErrorsAreNotStored() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        post("key-4", BODY, failing);
+        var retry = post("key-4", BODY, created());
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+    }
+
+    @Test
+    void responseIsPublishedOnlyAfterItIsPersisted() throws Exception {
+        // La clave caducó y otra petición la reclamó: el UPDATE con el token no encuentra la fila
+        completeResult = () -> 0;
+
+        post("key-6", BODY, created());
+        completeResult = () -> 1;
+        var retry = post("key-6", BODY, created());
+
+        assertEquals(2, executions.get());
+        assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void persistFailureIsRetriedThenSurfacedWithoutReleasingTheKey() {
+        completeResult = () -> {
+            throw new TransientDataAccessResourceException("Communications link failure");
+        };
+
+        assertThrows(TransientDataAccessResourceException.class, () -> post("key-7", BODY, created()));
+
+        assertEquals(3, statements.stream().filter("UPDATE"::equals).count());
+        // La creación ya se hizo: liberar la clave permitiría que un reintento la repitiera
+        assertFalse(statements.contains("DELETE"));
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            int id = executions.incrementAndGet();
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setHeader(HttpHeaders.LOCATION, "/topics/" + id);
+            httpResponse.addHeader("X-Similar-Topics", "7");
+            httpResponse.addHeader("X-Similar-Topics", "9");
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"topicId\":" + id + ",\"echo\":" + body + "}");
+        };
+    }
+
+    private MockHttpServletResponse post(String key, String body, FilterChain chain) throws Exception {
+        var request = new MockHttpServletRequest("POST", "/topics");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
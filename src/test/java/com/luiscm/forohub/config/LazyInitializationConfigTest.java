@@ -0,0 +1,80 @@
+package com.luiscm.forohub.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.luiscm.forohub.service.ChangeLogService;
+import com.luiscm.forohub.service.OutboxDispatcher;
+import com.luiscm.forohub.service.ReplyDigestService;
+
+class LazyInitializationConfigTest {
+
+    // Lo mismo que hace SpringApplication con spring.main.lazy-initialization=true (perfil fast)
+    private final ApplicationContextRunner fastProfile = new ApplicationContextRunner()
+        .withInitializer(context -> context.addBeanFactoryPostProcessor(new LazyInitializationBeanFactoryPostProcessor()))
+        .withUserConfiguration(LazyInitializationConfig.class, BackgroundBeans.class);
+
+    @Test
+    void scheduledAndListenerBeansAreCreatedAtStartup() {
+        fastProfile.run(context -> {
+            assertThat(context).hasNotFailed();
+            var beanFactory = context.getBeanFactory();
+            assertTrue(beanFactory.containsSingleton("scheduledJob"));
+            assertTrue(beanFactory.containsSingleton("eventListener"));
+            assertFalse(beanFactory.containsSingleton("plainService"));
+        });
+    }
+
+    @Test
+    void backgroundServicesAreExcluded() {
+        assertTrue(LazyInitializationConfig.hasBackgroundMethods(OutboxDispatcher.class));
+        assertTrue(LazyInitializationConfig.hasBackgroundMethods(ReplyDigestService.class));
+        assertTrue(LazyInitializationConfig.hasBackgroundMethods(ChangeLogService.class));
+        assertFalse(LazyInitializationConfig.hasBackgroundMethods(PlainService.class));
+    }
+
+    @Configuration
+    static class BackgroundBeans {
+
+        @Bean
+        ScheduledJob scheduledJob() {
+            return new ScheduledJob();
+        }
+
+        @Bean
+        Listener eventListener() {
+            return new Listener();
+        }
+
+        @Bean
+        PlainService plainService() {
+            return new PlainService();
+        }
+    }
+
+    static class ScheduledJob {
+        @Scheduled(fixedDelay = 60_000)
+        void run() {
+        }
+    }
+
+    static class Listener {
+        @EventListener
+        void onEvent(Object event) {
+        }
+    }
+
+    static class PlainService {
+        void work() {
+        }
+    }
+}
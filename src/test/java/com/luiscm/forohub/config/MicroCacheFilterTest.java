@@ -0,0 +1,198 @@
+package com.luiscm.forohub.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class MicroCacheFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private MicroCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = filter(60_000L);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private MicroCacheFilter filter(long ttlMs) {
+        var cache = new ResponseMicroCache();
+        ReflectionTestUtils.setField(cache, "ttlMs", ttlMs);
+        ReflectionTestUtils.setField(cache, "staleMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "waitTimeoutMs", 1_000L);
+
+        var filter = new MicroCacheFilter();
+        ReflectionTestUtils.setField(filter, "microCache", cache);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "maxPage", 0);
+        return filter;
+    }
+
+    @Test
+    void hitReplaysTheOriginalHeaders() throws Exception {
+        FilterChain listing = (request, response) -> {
+            executions.incrementAndGet();
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(200);
+            httpResponse.setHeader(HttpHeaders.ETAG, "\"v1\"");
+            httpResponse.setHeader(HttpHeaders.CACHE_CONTROL, "max-age=1");
+            httpResponse.addHeader(HttpHeaders.VARY, "Accept");
+            httpResponse.addHeader(HttpHeaders.VARY, "Accept-Encoding");
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("[]");
+        };
+
+        get(listing);
+        var hit = get(listing);
+
+        assertEquals(1, executions.get());
+        assertEquals("HIT", hit.getHeader("X-Cache"));
+        assertEquals("\"v1\"", hit.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=1", hit.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(2, hit.getHeaders(HttpHeaders.VARY).size());
+        assertEquals("[]", hit.getContentAsString());
+    }
+
+    @Test
+    void responsesSettingCookiesAreNotCached() throws Exception {
+        FilterChain withCookie = (request, response) -> {
+            int id = executions.incrementAndGet();
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(200);
+            httpResponse.setHeader(HttpHeaders.SET_COOKIE, "session=" + id);
+            httpResponse.getWriter().write("[]");
+        };
+
+        get(withCookie);
+        var second = get(withCookie);
+
+        assertEquals(2, executions.get());
+        assertEquals(List.of("session=2"), second.getHeaders(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        var started = new CountDownLatch(1);
+        var slowDatabase = new CountDownLatch(1);
+
+        Future<MockHttpServletResponse> first = executor.submit(() -> get(slowListing(started, slowDatabase)));
+        started.await(5, TimeUnit.SECONDS);
+        Future<MockHttpServletResponse> second = executor.submit(() -> get(listing()));
+        Thread.sleep(100);
+        slowDatabase.countDown();
+
+        assertEquals("MISS", first.get(5, TimeUnit.SECONDS).getHeader("X-Cache"));
+        var shared = second.get(5, TimeUnit.SECONDS);
+        assertEquals("SHARED", shared.getHeader("X-Cache"));
+        assertEquals("v1", shared.getContentAsString());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void staleEntryIsServedWhileOneRequestRevalidates() throws Exception {
+        // Sin TTL: cada entrada está vencida nada más guardarse, pero dentro de la ventana stale
+        filter = filter(0);
+        get(listing());
+        var started = new CountDownLatch(1);
+        var slowDatabase = new CountDownLatch(1);
+
+        Future<MockHttpServletResponse> refresh = executor.submit(() -> get(slowListing(started, slowDatabase)));
+        started.await(5, TimeUnit.SECONDS);
+        var stale = get(listing());
+        slowDatabase.countDown();
+
+        assertEquals("STALE", stale.getHeader("X-Cache"));
+        assertEquals("v1", stale.getContentAsString());
+        assertEquals("v2", refresh.get(5, TimeUnit.SECONDS).getContentAsString());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void successfulWriteInvalidatesTheListing() throws Exception {
+        get(listing());
+        post();
+        var afterWrite = get(listing());
+
+        assertEquals("MISS", afterWrite.getHeader("X-Cache"));
+        assertEquals("v2", afterWrite.getContentAsString());
+    }
+
+    @Test
+    void loadOverlappingAWriteIsNotCached() throws Exception {
+        var started = new CountDownLatch(1);
+        var slowDatabase = new CountDownLatch(1);
+
+        // La lectura empieza antes de la escritura y termina después: su resultado puede ser anterior
+        Future<MockHttpServletResponse> overlapping = executor.submit(() -> get(slowListing(started, slowDatabase)));
+        started.await(5, TimeUnit.SECONDS);
+        post();
+        slowDatabase.countDown();
+        overlapping.get(5, TimeUnit.SECONDS);
+        var afterWrite = get(listing());
+
+        assertEquals("MISS", afterWrite.getHeader("X-Cache"));
+        assertEquals("v2", afterWrite.getContentAsString());
+    }
+
+    private FilterChain listing() {
+        return (request, response) -> {
+            int version = executions.incrementAndGet();
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(200);
+            httpResponse.setContentType("text/plain");
+            httpResponse.getWriter().write("v" + version);
+        };
+    }
+
+    private FilterChain slowListing(CountDownLatch started, CountDownLatch slowDatabase) {
+        return (request, response) -> {
+            int version = executions.incrementAndGet();
+            started.countDown();
+            try {
+                slowDatabase.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(200);
+            httpResponse.setContentType("text/plain");
+            httpResponse.getWriter().write("v" + version);
+        };
+    }
+
+    private void post() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/topics");
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> ((HttpServletResponse) res).setStatus(201));
+    }
+
+    private MockHttpServletResponse get(FilterChain chain) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/topics");
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,118 @@
+package com.luiscm.forohub.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.dto.TopicDetailDTO;
+
+/**
+ * Bytes por respuesta (sin comprimir y con gzip) y CPU de serialización por formato
+ * para una página de tópicos. No forma parte de la suite normal; se ejecuta con:
+ * ./mvnw test -Dtest=ResponseFormatBenchmark
+ */
+class ResponseFormatBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    @FunctionalInterface
+    interface Serializer {
+        byte[] serialize(Page<TopicDetailDTO> page) throws IOException;
+    }
+
+    @Test
+    void compareFormats() throws IOException {
+        Page<TopicDetailDTO> page = samplePage();
+
+        ObjectMapper json = configure(new ObjectMapper());
+        ObjectMapper cbor = configure(new CBORMapper());
+        ObjectMapper smile = configure(new SmileMapper());
+        var compact = new CompactPageHttpMessageConverter(json);
+
+        Map<String, Serializer> formats = new LinkedHashMap<>();
+        formats.put("json", json::writeValueAsBytes);
+        formats.put("compact+json", p -> {
+            var output = new MockHttpOutputMessage();
+            compact.write(p, CompactPageHttpMessageConverter.COMPACT_JSON, output);
+            return output.getBodyAsBytes();
+        });
+        formats.put("cbor", cbor::writeValueAsBytes);
+        formats.put("smile", smile::writeValueAsBytes);
+
+        System.out.printf("%-14s %10s %10s %12s%n", "formato", "bytes", "gzip", "µs/página");
+        for (Map.Entry<String, Serializer> format : formats.entrySet()) {
+            Serializer serializer = format.getValue();
+            byte[] body = serializer.serialize(page);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                serializer.serialize(page);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                serializer.serialize(page);
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+
+            System.out.printf("%-14s %10d %10d %12.1f%n", format.getKey(), body.length, gzip(body).length, micros);
+        }
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper.registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        }
+        return output.toByteArray();
+    }
+
+    private static Page<TopicDetailDTO> samplePage() {
+        var random = new Random(42);
+        String[] words = {"spring", "java", "error", "consulta", "base", "datos", "controlador", "respuesta",
+            "hibernate", "flyway", "migración", "tópico", "curso", "usuario", "validación", "excepción"};
+
+        List<TopicDetailDTO> topics = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            var message = new StringBuilder();
+            int length = 200 + random.nextInt(1800);
+            while (message.length() < length) {
+                message.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            topics.add(new TopicDetailDTO(
+                (long) i + 1,
+                "Problema con " + words[random.nextInt(words.length)] + " #" + i,
+                message.toString(),
+                StatusTopic.values()[random.nextInt(StatusTopic.values().length)],
+                LocalDateTime.of(2025, 1, 1, 10, 0).plusMinutes(i * 37L),
+                (long) random.nextInt(1000),
+                (long) random.nextInt(20),
+                Set.of(words[random.nextInt(words.length)], words[random.nextInt(words.length)] + "-tag")));
+        }
+        return new PageImpl<>(topics, PageRequest.of(0, PAGE_SIZE), 10_000);
+    }
+}
@@ -0,0 +1,81 @@
+package com.luiscm.forohub.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class WebConfigTest {
+
+    record Item(long id, String title) {
+    }
+
+    @RestController
+    static class PageController {
+        @GetMapping("/items")
+        Page<Item> items() {
+            return new PageImpl<>(List.of(new Item(1, "Duda")), PageRequest.of(0, 10), 1);
+        }
+    }
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var objectMapper = new ObjectMapper();
+        var webConfig = new WebConfig();
+        ReflectionTestUtils.setField(webConfig, "objectMapper", objectMapper);
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(objectMapper));
+        webConfig.extendMessageConverters(converters);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new PageController())
+            .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+            .build();
+    }
+
+    @Test
+    void withoutAcceptThePageIsPlainJson() throws Exception {
+        mockMvc.perform(get("/items"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.content[0].title").value("Duda"));
+    }
+
+    @Test
+    void wildcardAcceptIsPlainJson() throws Exception {
+        mockMvc.perform(get("/items").header(HttpHeaders.ACCEPT, "*/*"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.content[0].title").value("Duda"));
+    }
+
+    @Test
+    void compactFormatOnlyWhenRequested() throws Exception {
+        mockMvc.perform(get("/items").header(HttpHeaders.ACCEPT, CompactPageHttpMessageConverter.COMPACT_JSON.toString()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(CompactPageHttpMessageConverter.COMPACT_JSON))
+            .andExpect(jsonPath("$.columns[1]").value("title"))
+            .andExpect(jsonPath("$.rows[0][1]").value("Duda"));
+    }
+}
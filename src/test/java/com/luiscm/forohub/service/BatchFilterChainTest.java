@@ -0,0 +1,61 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+class BatchFilterChainTest {
+
+    @Test
+    void filtersRunInOrderBeforeTheServlet() throws Exception {
+        List<String> calls = new ArrayList<>();
+        Filter first = (request, response, chain) -> {
+            calls.add("first");
+            chain.doFilter(request, response);
+        };
+        Filter second = (request, response, chain) -> {
+            calls.add("second");
+            chain.doFilter(request, response);
+        };
+        var servlet = new GenericServlet() {
+            @Override
+            public void service(ServletRequest request, ServletResponse response) {
+                calls.add("servlet");
+            }
+        };
+
+        new BatchFilterChain(List.of(first, second), servlet)
+            .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        assertEquals(List.of("first", "second", "servlet"), calls);
+    }
+
+    @Test
+    void aRejectingFilterStopsTheSubRequest() throws Exception {
+        List<String> calls = new ArrayList<>();
+        // Como el límite de concurrencia: responde 503 sin continuar la cadena
+        Filter limiter = (request, response, chain) -> ((MockHttpServletResponse) response).setStatus(503);
+        var servlet = new GenericServlet() {
+            @Override
+            public void service(ServletRequest request, ServletResponse response) {
+                calls.add("servlet");
+            }
+        };
+        var response = new MockHttpServletResponse();
+
+        new BatchFilterChain(List.of(limiter), servlet).doFilter(new MockHttpServletRequest(), response);
+
+        assertEquals(503, response.getStatus());
+        assertEquals(List.of(), calls);
+    }
+}
@@ -0,0 +1,115 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.luiscm.forohub.config.IdempotencyFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class BatchSubRequestTest {
+
+    private static final byte[] BODY = "{\"title\":\"Duda\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void pathQueryAndBodyComeFromTheItem() throws Exception {
+        var sub = new BatchSubRequest(outer(), "POST", "/topics?course=Java%20b%C3%A1sico&tag=a&tag=b", BODY);
+
+        assertEquals("POST", sub.getMethod());
+        assertEquals("/api/topics", sub.getRequestURI());
+        assertEquals("/topics", sub.getServletPath());
+        assertEquals("Java básico", sub.getParameter("course"));
+        assertArrayEquals(new String[] {"a", "b"}, sub.getParameterValues("tag"));
+        assertEquals("application/json", sub.getContentType());
+        assertEquals(BODY.length, sub.getContentLength());
+        assertArrayEquals(BODY, sub.getInputStream().readAllBytes());
+    }
+
+    @Test
+    void headersAreCopiedExceptContentAndIdempotencyKey() {
+        var sub = new BatchSubRequest(outer(), "GET", "/topics", null);
+
+        assertEquals("Bearer token", sub.getHeader(HttpHeaders.AUTHORIZATION));
+        assertEquals("application/json", sub.getHeader(HttpHeaders.ACCEPT));
+        assertNull(sub.getHeader(HttpHeaders.CONTENT_TYPE));
+        assertNull(sub.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        assertNull(sub.getHeader(IdempotencyFilter.HEADER));
+        assertEquals(-1, sub.getContentLength());
+    }
+
+    @Test
+    void attributesAreNotSharedWithTheBatchRequest() throws Exception {
+        var outer = outer();
+        outer.setAttribute("marker.FILTERED", Boolean.TRUE);
+        var sub = new BatchSubRequest(outer, "GET", "/topics", null);
+        sub.setAttribute("own", "value");
+
+        assertNull(sub.getAttribute("marker.FILTERED"));
+        assertNull(outer.getAttribute("own"));
+
+        // Un OncePerRequestFilter que ya filtró /batch vuelve a actuar sobre la sub-petición
+        List<String> calls = new ArrayList<>();
+        var filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                    FilterChain chain) {
+                calls.add(request.getRequestURI());
+            }
+        };
+        filter.setBeanName("marker");
+        filter.doFilter(sub, new MockHttpServletResponse(), (request, response) -> { });
+        assertEquals(List.of("/api/topics"), calls);
+    }
+
+    @Test
+    void readListenerIsNotifiedSynchronously() throws Exception {
+        var sub = new BatchSubRequest(outer(), "POST", "/topics", BODY);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        sub.getInputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertEquals(List.of("data", "done"), events);
+        assertTrue(sub.getInputStream().isReady());
+    }
+
+    private static MockHttpServletRequest outer() {
+        var request = new MockHttpServletRequest("POST", "/api/batch");
+        request.setContextPath("/api");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        request.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+        request.addHeader(IdempotencyFilter.HEADER, "batch-key");
+        return request;
+    }
+}
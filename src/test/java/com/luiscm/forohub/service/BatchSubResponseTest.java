@@ -0,0 +1,86 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.WriteListener;
+
+class BatchSubResponseTest {
+
+    @Test
+    void nothingReachesTheRealResponse() throws Exception {
+        var real = new MockHttpServletResponse();
+        var sub = new BatchSubResponse(real);
+
+        sub.setStatus(201);
+        sub.setHeader(HttpHeaders.LOCATION, "/topics/7");
+        sub.addHeader(HttpHeaders.VARY, "Accept");
+        sub.addHeader("vary", "Accept-Encoding");
+        sub.setContentType("application/json;charset=ISO-8859-1");
+        sub.getWriter().write("{\"título\":1}");
+        sub.flushBuffer();
+
+        assertEquals(201, sub.getStatus());
+        assertEquals("/topics/7", sub.getHeader("location"));
+        assertEquals(List.of("Accept", "Accept-Encoding"), sub.getHeaders(HttpHeaders.VARY));
+        assertEquals("ISO-8859-1", sub.getCharacterEncoding());
+        assertEquals("{\"título\":1}", new String(sub.getContentAsByteArray(), StandardCharsets.ISO_8859_1));
+        assertFalse(sub.isCommitted());
+
+        assertEquals(200, real.getStatus());
+        assertEquals(0, real.getHeaderNames().size());
+        assertEquals(0, real.getContentAsByteArray().length);
+    }
+
+    @Test
+    void sendErrorKeepsStatusAndMessage() {
+        var sub = new BatchSubResponse(new MockHttpServletResponse());
+
+        sub.sendError(404, "Tópico no encontrado");
+
+        assertEquals(404, sub.getStatus());
+        assertEquals("Tópico no encontrado", sub.getErrorMessage());
+    }
+
+    @Test
+    void resetClearsHeadersAndBody() throws Exception {
+        var sub = new BatchSubResponse(new MockHttpServletResponse());
+        sub.setStatus(500);
+        sub.setHeader("X-Partial", "1");
+        sub.getOutputStream().write(new byte[] {1, 2, 3});
+
+        sub.reset();
+
+        assertEquals(200, sub.getStatus());
+        assertEquals(0, sub.getHeaderNames().size());
+        assertEquals(0, sub.getContentAsByteArray().length);
+    }
+
+    @Test
+    void writeListenerIsNotifiedSynchronously() throws Exception {
+        var sub = new BatchSubResponse(new MockHttpServletResponse());
+        List<String> events = new ArrayList<>();
+
+        sub.getOutputStream().setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                events.add("writable");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertEquals(List.of("writable"), events);
+    }
+}
@@ -0,0 +1,75 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    @Test
+    void loadOverlappingAnInvalidationIsNotStored() throws Exception {
+        var cache = new BoundedCache<Long, String>(10, 0);
+
+        // La consulta lee el valor viejo, el cambio se confirma e invalida, y la consulta termina después
+        String stale = loadAround(cache, () -> cache.invalidate(1L));
+
+        assertEquals("viejo", stale);
+        assertNull(cache.get(1L));
+        assertEquals("nuevo", cache.computeIfAbsent(1L, key -> "nuevo"));
+        assertEquals("nuevo", cache.get(1L));
+    }
+
+    @Test
+    void invalidateAllDiscardsLoadsInFlight() throws Exception {
+        var cache = new BoundedCache<Long, String>(10, 0);
+
+        loadAround(cache, cache::invalidateAll);
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void invalidatingAnotherKeyKeepsTheLoad() throws Exception {
+        var cache = new BoundedCache<Long, String>(10, 0);
+
+        loadAround(cache, () -> cache.invalidate(2L));
+
+        assertEquals("viejo", cache.get(1L));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        var cache = new BoundedCache<Long, String>(2, 0);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+        cache.put(3L, "c");
+
+        assertEquals("a", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(2, cache.size());
+    }
+
+    private static String loadAround(BoundedCache<Long, String> cache, Runnable duringLoad) throws Exception {
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> cache.computeIfAbsent(1L, key -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "viejo";
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        duringLoad.run();
+        release.countDown();
+        return load.get(5, TimeUnit.SECONDS);
+    }
+}
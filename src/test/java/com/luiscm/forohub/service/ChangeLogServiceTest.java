@@ -0,0 +1,87 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.model.ChangeEntityType;
+import com.luiscm.forohub.model.ChangeOperation;
+import com.luiscm.forohub.model.dto.ChangeEventDTO;
+import com.luiscm.forohub.model.dto.ChangeFeedDTO;
+
+class ChangeLogServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<ChangeEventDTO> committed = new ArrayList<>();
+    private final ChangeLogService service = new ChangeLogService();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "executor", new SyncTaskExecutor());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenAnswer(invocation -> {
+            long since = invocation.getArgument(2);
+            int limit = invocation.getArgument(3);
+            return committed.stream().filter(change -> change.commitSeq() > since).limit(limit).toList();
+        });
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenAnswer(invocation ->
+            committed.stream().mapToLong(ChangeEventDTO::commitSeq).max().orElse(0));
+    }
+
+    @Test
+    void waitingRequestIsCompletedWhenAChangeCommits() {
+        var result = service.awaitChanges(0, 10, 30_000);
+        assertFalse(result.hasResult());
+
+        commit(1);
+        service.pollWaiters();
+
+        var feed = (ChangeFeedDTO) result.getResult();
+        assertEquals(List.of(1L), feed.changes().stream().map(ChangeEventDTO::commitSeq).toList());
+        assertEquals(1, feed.nextCursor());
+    }
+
+    @Test
+    void pendingChangesAnswerImmediately() {
+        commit(1);
+        commit(2);
+        commit(3);
+
+        var feed = (ChangeFeedDTO) service.awaitChanges(1, 1, 30_000).getResult();
+
+        assertEquals(2, feed.nextCursor());
+        assertTrue(feed.hasMore());
+    }
+
+    @Test
+    void waitersAheadOfTheLatestChangeKeepWaiting() {
+        commit(1);
+        var result = service.awaitChanges(1, 10, 30_000);
+
+        service.pollWaiters();
+
+        assertFalse(result.hasResult());
+    }
+
+    private void commit(long commitSeq) {
+        committed.add(new ChangeEventDTO(commitSeq, commitSeq, ChangeEntityType.TOPIC, commitSeq,
+            ChangeOperation.CREATE, LocalDateTime.now()));
+    }
+}
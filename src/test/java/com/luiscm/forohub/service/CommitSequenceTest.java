@@ -0,0 +1,93 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.luiscm.forohub.service.CommitSequence.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+class CommitSequenceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final CommitSequence sequence = new CommitSequence();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sequence, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(sequence, "entityManagerFactory", entityManagerFactory);
+    }
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rowsAreNumberedOnceBeforeCommitInIdOrder() {
+        // El contador pasa de 40 a 43: a esta transacción le corresponden 41, 42 y 43
+        when(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class)).thenReturn(43L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        sequence.assignOnCommit(Stream.CHANGE_LOG, 12);
+        sequence.assignOnCommit(Stream.CHANGE_LOG, 10);
+        sequence.assignOnCommit(Stream.CHANGE_LOG, 11);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(jdbcTemplate, times(1)).update(anyString(), eq(3), eq("global"));
+        ArgumentCaptor<List<Object[]>> assignments = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), assignments.capture());
+        List<Object[]> rows = assignments.getValue();
+        assertEquals(List.of(41L, 10L, 42L, 11L, 43L, 12L),
+            rows.stream().flatMap(Arrays::stream).toList());
+        assertFalse(TransactionSynchronizationManager.hasResource(sequence));
+    }
+
+    @Test
+    void pendingEntitiesAreFlushedBeforeTheCounterIsLocked() {
+        when(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class)).thenReturn(1L);
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        TransactionSynchronizationManager.initSynchronization();
+
+        sequence.assignOnCommit(Stream.CHANGE_LOG, 10);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // Los UPDATE de las entidades bloquean sus filas antes que la fila global del contador
+        InOrder order = inOrder(entityManager, jdbcTemplate);
+        order.verify(entityManager).flush();
+        order.verify(jdbcTemplate).update(anyString(), eq(1), eq("global"));
+    }
+}
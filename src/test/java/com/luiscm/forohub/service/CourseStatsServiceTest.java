@@ -0,0 +1,79 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.event.ReplyCreated;
+import com.luiscm.forohub.model.event.ReplyDeleted;
+import com.luiscm.forohub.model.event.TopicCreated;
+import com.luiscm.forohub.model.event.TopicStatusChanged;
+import com.luiscm.forohub.model.event.UserDeactivated;
+import com.luiscm.forohub.repository.CourseRepository;
+import com.luiscm.forohub.repository.CourseStatsRepository;
+
+class CourseStatsServiceTest {
+
+    @Test
+    void batchIsAppliedAsOneIncrementPerCourse() {
+        var repository = mock(CourseStatsRepository.class);
+        var service = new CourseStatsService();
+        ReflectionTestUtils.setField(service, "courseStatsRepository", repository);
+
+        service.handle(List.of(
+            new TopicCreated(1L, 10L, 7L, StatusTopic.NO_RESPONSE),
+            new ReplyCreated(100L, 1L, 10L, 11L, 7L, true),
+            new ReplyCreated(101L, 1L, 10L, 12L, 7L, true),
+            new TopicStatusChanged(1L, 7L, StatusTopic.NO_RESPONSE, StatusTopic.SOLVED),
+            new TopicCreated(2L, 10L, 8L, StatusTopic.NO_RESPONSE),
+            new TopicCreated(3L, 10L, null, StatusTopic.NO_RESPONSE),
+            new ReplyDeleted(102L, 4L, 11L, 8L, false),
+            new UserDeactivated(12L)));
+
+        verify(repository).increment(7L, 1, 0, 1, 2);
+        verify(repository).increment(8L, 1, 1, 0, 0);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void recomputeRunsWhileTheConsumerOffsetIsLocked() {
+        var repository = mock(CourseStatsRepository.class);
+        var courses = mock(CourseRepository.class);
+        var outboxStore = mock(OutboxStore.class);
+        var service = new CourseStatsService();
+        ReflectionTestUtils.setField(service, "courseStatsRepository", repository);
+        ReflectionTestUtils.setField(service, "courseRepository", courses);
+        ReflectionTestUtils.setField(service, "outboxStore", outboxStore);
+        ReflectionTestUtils.setField(service, "recomputeBatchSize", 2);
+        when(courses.findCourseIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(courses.findCourseIdsAfter(eq(2L), any())).thenReturn(List.of(3L));
+        var locked = new AtomicBoolean();
+        doAnswer(invocation -> {
+            locked.set(true);
+            ((Runnable) invocation.getArgument(1)).run();
+            locked.set(false);
+            return null;
+        }).when(outboxStore).rebase(eq("course-stats"), any());
+        doAnswer(invocation -> {
+            assertTrue(locked.get());
+            return null;
+        }).when(repository).recompute(any());
+
+        service.recomputeAll();
+
+        verify(repository).recompute(List.of(1L, 2L));
+        verify(repository).recompute(List.of(3L));
+    }
+}
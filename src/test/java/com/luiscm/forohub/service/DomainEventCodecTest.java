@@ -0,0 +1,51 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.event.DomainEvent;
+import com.luiscm.forohub.model.event.ReplyCreated;
+import com.luiscm.forohub.model.event.ReplyDeleted;
+import com.luiscm.forohub.model.event.SolutionMarked;
+import com.luiscm.forohub.model.event.TopicCreated;
+import com.luiscm.forohub.model.event.TopicDeleted;
+import com.luiscm.forohub.model.event.TopicStatusChanged;
+import com.luiscm.forohub.model.event.TopicUpdated;
+import com.luiscm.forohub.model.event.UserDeactivated;
+
+class DomainEventCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void everyEventTypeSurvivesTheOutbox() {
+        List<DomainEvent> events = List.of(
+            new TopicCreated(1L, 2L, 3L, StatusTopic.NO_RESPONSE),
+            new TopicUpdated(1L, 3L),
+            new TopicStatusChanged(1L, 3L, StatusTopic.NO_RESPONSE, StatusTopic.SOLVED),
+            new TopicDeleted(1L, 2L, null, StatusTopic.CLOSED, 4),
+            new ReplyCreated(5L, 1L, 2L, 6L, 3L, true),
+            new ReplyDeleted(5L, 1L, 6L, 3L, false),
+            new SolutionMarked(5L, 1L, 6L, 3L, true),
+            new UserDeactivated(6L));
+        assertEquals(DomainEvent.class.getPermittedSubclasses().length, events.size());
+
+        for (DomainEvent event : events) {
+            String payload = DomainEventCodec.write(objectMapper, event);
+            assertEquals(event, DomainEventCodec.read(objectMapper, DomainEventCodec.type(event), payload));
+        }
+    }
+
+    @Test
+    void unknownTypesAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> DomainEventCodec.read(objectMapper, "TopicRenamed", "{}"));
+    }
+}
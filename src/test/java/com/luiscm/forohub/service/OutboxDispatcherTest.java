@@ -0,0 +1,299 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.event.DomainEvent;
+import com.luiscm.forohub.model.event.TopicCreated;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FakeStore store = new FakeStore();
+
+    @Test
+    void eventsAreDeliveredInCommitOrderAcrossBatches() {
+        publish(1, 2, 3, 4, 5);
+        var consumer = new RecordingConsumer("stats", false);
+
+        dispatcher(consumer).dispatch();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), consumer.topicIds());
+        assertEquals(5, store.offsets.get("stats"));
+    }
+
+    @Test
+    void transientFailuresAreRetriedWithoutAdvancing() {
+        publish(1, 2);
+        var consumer = new RecordingConsumer("stats", false);
+        // Más fallos que intentos por pasada: la primera pasada se rinde sin saltar nada
+        consumer.failures = 4;
+        consumer.failure = () -> new CannotAcquireLockException("Lock wait timeout exceeded");
+        var dispatcher = dispatcher(consumer);
+
+        dispatcher.dispatch();
+        assertEquals(List.of(), consumer.topicIds());
+        assertEquals(0, store.offsets.get("stats"));
+
+        dispatcher.dispatch();
+        assertEquals(List.of(1L, 2L), consumer.topicIds());
+        assertEquals(2, store.offsets.get("stats"));
+    }
+
+    @Test
+    void deterministicFailureSkipsOnlyTheFailingEvent() {
+        publish(1, 2, 3);
+        var consumer = new RecordingConsumer("stats", false);
+        consumer.rejected = 2L;
+
+        dispatcher(consumer).dispatch();
+
+        assertEquals(List.of(1L, 3L), consumer.topicIds());
+        assertEquals(3, store.offsets.get("stats"));
+    }
+
+    @Test
+    void undecodableEventsAreSkipped() {
+        publish(1);
+        store.rows.add(new OutboxStore.OutboxRow(store.rows.size() + 1, "Unknown", "{}"));
+        publish(3);
+        var consumer = new RecordingConsumer("stats", false);
+
+        dispatcher(consumer).dispatch();
+
+        assertEquals(List.of(1L, 3L), consumer.topicIds());
+        assertEquals(3, store.offsets.get("stats"));
+    }
+
+    @Test
+    void concurrentInstancesApplyEachBatchOnce() {
+        publish(1, 2, 3);
+        var shared = new RecordingConsumer("stats", false);
+        var first = dispatcher(shared);
+        var second = dispatcher(shared);
+        // La segunda instancia lee el mismo lote, pero la primera lo aplica antes de que tome el bloqueo
+        store.beforeAdvance = consumer -> {
+            store.beforeAdvance = null;
+            first.dispatch();
+        };
+
+        second.dispatch();
+
+        assertEquals(List.of(1L, 2L, 3L), shared.topicIds());
+        assertEquals(3, store.offsets.get("stats"));
+    }
+
+    @Test
+    void perInstanceConsumersSeeEveryEventOnEachInstance() {
+        var first = new RecordingConsumer("cache", true);
+        var second = new RecordingConsumer("cache", true);
+        // Arrancan en el último evento existente
+        publish(1);
+        var firstDispatcher = dispatcher(first);
+        var secondDispatcher = dispatcher(second);
+
+        publish(2, 3);
+        firstDispatcher.dispatch();
+        secondDispatcher.dispatch();
+
+        assertEquals(List.of(2L, 3L), first.topicIds());
+        assertEquals(List.of(2L, 3L), second.topicIds());
+        assertFalse(store.offsets.containsKey("cache"));
+    }
+
+    @Test
+    void lagCountsPendingEventsNotTheDistanceInTheSequence() {
+        // Los huecos de commit_seq pertenecen a otras tablas
+        publish(10, 20, 30);
+        var consumer = new RecordingConsumer("stats", false);
+        consumer.failures = 4;
+        consumer.failure = () -> new CannotAcquireLockException("Lock wait timeout exceeded");
+        var registry = new SimpleMeterRegistry();
+        var dispatcher = dispatcher(registry, consumer);
+
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        assertEquals(3, registry.get("forohub.events.lag").tag("consumer", "stats").gauge().value());
+    }
+
+    @Test
+    void perInstanceOffsetsDoNotHoldBackThePurge() {
+        var dispatcher = dispatcher(new RecordingConsumer("stats", false), new RecordingConsumer("cache", true));
+        publish(1, 2, 3);
+        store.offsets.put("stats", 3L);
+
+        dispatcher.purgeDelivered();
+
+        assertEquals(List.of(), store.rows);
+    }
+
+    @Test
+    void purgeUsesThePersistedOffsets() {
+        publish(1, 2, 3);
+        store.offsets.put("stats", 2L);
+        var dispatcher = dispatcher(new RecordingConsumer("stats", false));
+
+        dispatcher.purgeDelivered();
+
+        assertEquals(List.of(3L), store.rows.stream().map(OutboxStore.OutboxRow::commitSeq).toList());
+    }
+
+    @Test
+    void transientErrorsAreRecognisedThroughWrappers() {
+        assertTrue(OutboxDispatcher.isTransient(
+            new RuntimeException(new CannotAcquireLockException("Deadlock found"))));
+        assertFalse(OutboxDispatcher.isTransient(new DataIntegrityViolationException("fk")));
+    }
+
+    private OutboxDispatcher dispatcher(DomainEventConsumer... consumers) {
+        return dispatcher(new SimpleMeterRegistry(), consumers);
+    }
+
+    private OutboxDispatcher dispatcher(MeterRegistry registry, DomainEventConsumer... consumers) {
+        var dispatcher = new OutboxDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "consumers", List.of(consumers));
+        ReflectionTestUtils.setField(dispatcher, "store", store);
+        ReflectionTestUtils.setField(dispatcher, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(dispatcher, "meterRegistry", registry);
+        ReflectionTestUtils.setField(dispatcher, "executor", new SyncTaskExecutor());
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "retryBackoffMs", 0L);
+        ReflectionTestUtils.setField(dispatcher, "purgeBatchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "lagCountLimit", 1000);
+        ReflectionTestUtils.invokeMethod(dispatcher, "registerConsumers");
+        return dispatcher;
+    }
+
+    // El commit_seq coincide con el id de tópico del evento para que las aserciones sean legibles
+    private void publish(long... topicIds) {
+        for (long topicId : topicIds) {
+            DomainEvent event = new TopicCreated(topicId, 1L, 1L, StatusTopic.NO_RESPONSE);
+            store.rows.add(new OutboxStore.OutboxRow(topicId, DomainEventCodec.type(event),
+                DomainEventCodec.write(objectMapper, event)));
+        }
+    }
+
+    private static final class RecordingConsumer implements DomainEventConsumer {
+
+        private final String name;
+        private final boolean perInstance;
+        private final List<TopicCreated> handled = new ArrayList<>();
+        int failures;
+        java.util.function.Supplier<RuntimeException> failure;
+        Long rejected;
+
+        RecordingConsumer(String name, boolean perInstance) {
+            this.name = name;
+            this.perInstance = perInstance;
+        }
+
+        @Override
+        public String consumerName() {
+            return name;
+        }
+
+        @Override
+        public boolean perInstance() {
+            return perInstance;
+        }
+
+        @Override
+        public void handle(List<DomainEvent> events) {
+            if (failures > 0) {
+                failures--;
+                throw failure.get();
+            }
+            for (DomainEvent event : events) {
+                if (((TopicCreated) event).topicId().equals(rejected)) {
+                    throw new IllegalStateException("evento inválido");
+                }
+            }
+            events.forEach(event -> handled.add((TopicCreated) event));
+        }
+
+        List<Long> topicIds() {
+            return handled.stream().map(TopicCreated::topicId).toList();
+        }
+    }
+
+    // Misma semántica que JdbcOutboxStore: la posición se comprueba y avanza de forma atómica
+    private static final class FakeStore implements OutboxStore {
+
+        final List<OutboxRow> rows = new ArrayList<>();
+        final Map<String, Long> offsets = new HashMap<>();
+        Consumer<String> beforeAdvance;
+
+        @Override
+        public long latestCommitSeq() {
+            return rows.stream().mapToLong(OutboxRow::commitSeq).max().orElse(0);
+        }
+
+        @Override
+        public List<OutboxRow> readAfter(long commitSeq, int limit) {
+            return rows.stream().filter(row -> row.commitSeq() > commitSeq).limit(limit).toList();
+        }
+
+        @Override
+        public long countAfter(long commitSeq, int limit) {
+            return Math.min(readAfter(commitSeq, Integer.MAX_VALUE).size(), limit);
+        }
+
+        @Override
+        public long loadOffset(String consumer) {
+            return offsets.computeIfAbsent(consumer, key -> 0L);
+        }
+
+        @Override
+        public boolean advance(String consumer, long expected, long next, Runnable action) {
+            if (beforeAdvance != null) {
+                beforeAdvance.accept(consumer);
+            }
+            if (offsets.get(consumer) != expected) {
+                return false;
+            }
+            action.run();
+            offsets.put(consumer, next);
+            return true;
+        }
+
+        @Override
+        public void rebase(String consumer, Runnable action) {
+            action.run();
+            offsets.put(consumer, latestCommitSeq());
+        }
+
+        @Override
+        public long minOffset(Collection<String> consumers) {
+            return consumers.stream().mapToLong(consumer -> offsets.getOrDefault(consumer, -1L)).min().orElse(-1);
+        }
+
+        @Override
+        public int purgeUpTo(long commitSeq, int limit) {
+            int before = rows.size();
+            rows.removeIf(row -> row.commitSeq() <= commitSeq);
+            return before - rows.size();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.exception.ResourceNotFoundException;
+import com.luiscm.forohub.repository.UserRepository;
+
+class ReadStateServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private ReadStateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReadStateService();
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "maxPending", 1000);
+        ReflectionTestUtils.setField(service, "knownUsersCacheSize", 100);
+        ReflectionTestUtils.invokeMethod(service, "initCache");
+        when(userRepository.existsById(any())).thenReturn(true);
+    }
+
+    @Test
+    void unknownUsersAreRejectedAndKnownOnesCheckedOnce() {
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> service.markRead(99L, 1L, 5, 5));
+        service.markRead(1L, 1L, 5, 5);
+        service.markRead(1L, 2L, 7, 7);
+
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transientFailureKeepsTheWatermarksForTheNextFlush() {
+        service.markRead(1L, 1L, 5, 5);
+        service.markRead(2L, 1L, 8, 8);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new CannotAcquireLockException("lock wait timeout"))
+            .thenReturn(new int[0]);
+
+        service.flush();
+        // Llega una lectura más reciente antes del siguiente volcado: gana la marca más alta
+        service.markRead(1L, 1L, 9, 9);
+        service.flush();
+
+        var batches = org.mockito.ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        List<Object[]> retried = batches.getAllValues().get(1);
+        assertEquals(2, retried.size());
+        assertEquals(List.of(List.of(1L, 1L, 9L, 9L), List.of(2L, 1L, 8L, 8L)), sorted(retried));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void watermarkFollowsCommitOrderNotReplyIds() {
+        // La respuesta 12 se creó antes pero se confirmó después de la 9
+        service.markRead(1L, 1L, 12, 30);
+        service.markRead(1L, 1L, 9, 20);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[0]);
+
+        service.flush();
+
+        var batch = org.mockito.ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(List.of(List.of(1L, 1L, 12L, 30L)), sorted(batch.getValue()));
+    }
+
+    @Test
+    void foreignKeyViolationDropsOnlyTheOffendingRow() {
+        service.markRead(1L, 1L, 5, 5);
+        service.markRead(1L, 2L, 6, 6);
+        service.markRead(2L, 3L, 7, 7);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new DataIntegrityViolationException("fk_read_state_topic"));
+        // El tópico 2 se borró entre la lectura y el volcado
+        doThrow(new DataIntegrityViolationException("fk_read_state_topic"))
+            .when(jdbcTemplate).update(anyString(), eq(1L), eq(2L), eq(6L), eq(6L));
+
+        service.flush();
+
+        verify(jdbcTemplate).update(anyString(), eq(1L), eq(1L), eq(5L), eq(5L));
+        verify(jdbcTemplate).update(anyString(), eq(2L), eq(3L), eq(7L), eq(7L));
+        // Nada queda pendiente: la fila rechazada se descarta en lugar de reintentarse para siempre
+        service.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    private static List<List<Object>> sorted(List<Object[]> rows) {
+        List<List<Object>> result = new ArrayList<>();
+        rows.forEach(row -> result.add(List.of(row)));
+        result.sort((a, b) -> Long.compare((Long) a.get(0), (Long) b.get(0)));
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RebuildableIndexTest {
+
+    @Test
+    void changesDuringRebuildAreReplayedOnTheFreshState() {
+        var index = new RebuildableIndex<List<String>, String>(new ArrayList<>(), List::add);
+        index.applyAfterCommit("antes");
+
+        List<String> fresh = index.rebuild(() -> {
+            // Llega una escritura mientras se lee la base de datos
+            index.applyAfterCommit("durante");
+            return new ArrayList<>(List.of("cargado"));
+        });
+        index.applyAfterCommit("después");
+
+        assertEquals(List.of("cargado", "durante", "después"), fresh);
+        assertEquals(List.of("cargado", "durante", "después"), index.read(List::copyOf));
+    }
+
+    @Test
+    void failedRebuildKeepsTheCurrentState() {
+        var index = new RebuildableIndex<List<String>, String>(new ArrayList<>(), List::add);
+        index.applyAfterCommit("a");
+
+        try {
+            index.rebuild(() -> {
+                throw new IllegalStateException("sin base de datos");
+            });
+        } catch (IllegalStateException expected) {
+            // el índice sigue sirviendo el estado anterior
+        }
+        index.applyAfterCommit("b");
+
+        assertEquals(List.of("a", "b"), index.read(List::copyOf));
+    }
+}
@@ -0,0 +1,261 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.service.DigestSender.Digest;
+import com.luiscm.forohub.service.ReplyDigestService.PendingDigest;
+import com.luiscm.forohub.service.ReplyDigestService.ScannedReply;
+
+class ReplyDigestServiceTest {
+
+    private static final long WINDOW_MS = 1_000;
+    private static final long CLAIM_TIMEOUT_MS = 5_000;
+
+    private final FakeStore store = new FakeStore();
+    private final List<Digest> sent = new ArrayList<>();
+
+    @Test
+    void groupsPerRecipientAndTopicSkippingSelfRepliesAndDeletedOnes() {
+        List<PendingDigest> digests = ReplyDigestService.group(List.of(
+            new ScannedReply(1, 10, 1, 100, 200, true),
+            new ScannedReply(2, 11, 2, 100, 201, true),
+            new ScannedReply(3, 12, 1, 100, 202, true),
+            new ScannedReply(4, 13, 1, 100, 100, true),
+            new ScannedReply(5, 14, 3, 101, 200, false),
+            new ScannedReply(6, 15, 1, 100, 203, true)));
+
+        assertEquals(List.of(
+            new PendingDigest(100, 1, 10, 15, 3),
+            new PendingDigest(100, 2, 11, 11, 1)), digests);
+    }
+
+    @Test
+    void watermarkFollowsCommitOrderNotReplyIds() {
+        var service = service(this::record);
+        // La respuesta 11 se confirma antes que la 10
+        store.commit(11, 1, 100, 200);
+        service.scan();
+        store.commit(10, 1, 100, 201);
+        service.scan();
+
+        assertEquals(2, store.watermark());
+        store.now += WINDOW_MS;
+        service.sendDue();
+
+        assertEquals(1, sent.size());
+        assertEquals(2, sent.get(0).replyCount());
+        assertEquals(10L, sent.get(0).firstReplyId());
+        assertEquals(11L, sent.get(0).lastReplyId());
+    }
+
+    @Test
+    void crashWhileScanningReprocessesTheBatchOnce() {
+        var service = service(this::record);
+        store.commit(10, 1, 100, 200);
+        store.commit(11, 1, 100, 201);
+        store.failNextAdd = true;
+
+        assertThrows(CannotAcquireLockException.class, service::scan);
+        assertEquals(0, store.watermark());
+        service.scan();
+        store.now += WINDOW_MS;
+        service.sendDue();
+
+        assertEquals(1, sent.size());
+        assertEquals(2, sent.get(0).replyCount());
+    }
+
+    @Test
+    void crashWhileSendingIsRetriedOnlyAfterTheClaimExpires() {
+        var attempts = new int[1];
+        var service = service(digest -> {
+            if (attempts[0]++ == 0) {
+                throw new IllegalStateException("servidor de correo caído");
+            }
+            record(digest);
+        });
+        store.commit(10, 1, 100, 200);
+        service.scan();
+        store.now += WINDOW_MS;
+
+        service.sendDue();
+        service.sendDue();
+        assertEquals(List.of(), sent);
+
+        store.now += CLAIM_TIMEOUT_MS;
+        service.sendDue();
+        service.sendDue();
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    void repliesArrivingWhileSendingStartANewDigest() {
+        var service = service(this::record);
+        var sending = service(digest -> {
+            // Mientras se envía llega otra respuesta y se recorre
+            store.commit(12, 1, 100, 202);
+            service.scan();
+            record(digest);
+        });
+        store.commit(10, 1, 100, 200);
+        store.commit(11, 1, 100, 201);
+        service.scan();
+        store.now += WINDOW_MS;
+
+        sending.sendDue();
+        store.now += WINDOW_MS;
+        service.sendDue();
+
+        assertEquals(2, sent.size());
+        assertEquals(List.of(2, 1), sent.stream().map(Digest::replyCount).toList());
+        assertEquals(List.of(11L, 12L), sent.stream().map(Digest::lastReplyId).toList());
+        assertEquals(12L, sent.get(1).firstReplyId());
+    }
+
+    @Test
+    void concurrentSendersNeverDeliverTheSameDigest() {
+        var other = service(this::record);
+        var first = service(digest -> {
+            // La otra instancia se ejecuta mientras esta aún no ha marcado el envío
+            other.sendDue();
+            record(digest);
+        });
+        store.commit(10, 1, 100, 200);
+        store.commit(11, 2, 100, 201);
+        first.scan();
+        store.now += WINDOW_MS;
+
+        first.sendDue();
+        first.sendDue();
+        other.sendDue();
+
+        assertEquals(2, sent.size());
+        assertEquals(2, sent.stream().map(Digest::digestId).distinct().count());
+    }
+
+    private void record(Digest digest) {
+        sent.add(digest);
+    }
+
+    private ReplyDigestService service(DigestSender sender) {
+        var service = new ReplyDigestService();
+        ReflectionTestUtils.setField(service, "store", store);
+        ReflectionTestUtils.setField(service, "sender", sender);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        ReflectionTestUtils.setField(service, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(service, "windowMs", WINDOW_MS);
+        ReflectionTestUtils.setField(service, "sendBatchSize", 10);
+        ReflectionTestUtils.setField(service, "claimTimeoutMs", CLAIM_TIMEOUT_MS);
+        return service;
+    }
+
+    // Misma semántica que JdbcDigestStore, con un reloj manual
+    private static final class FakeStore implements DigestStore {
+
+        private static final class Row {
+            long digestId;
+            long recipientId;
+            long topicId;
+            long firstReplyId;
+            long lastReplyId;
+            int replyCount;
+            long createdAt;
+            String claimedBy;
+            Long claimedAt;
+            boolean sent;
+
+            boolean pending() {
+                return !sent && claimedAt == null;
+            }
+        }
+
+        final List<ScannedReply> replies = new ArrayList<>();
+        final List<Row> digests = new ArrayList<>();
+        long watermark;
+        long now;
+        boolean failNextAdd;
+
+        void commit(long replyId, long topicId, long recipientId, long authorId) {
+            replies.add(new ScannedReply(replies.size() + 1, replyId, topicId, recipientId, authorId, true));
+        }
+
+        @Override
+        public long watermark() {
+            return watermark;
+        }
+
+        @Override
+        public List<ScannedReply> repliesAfter(long commitSeq, int limit) {
+            return replies.stream().filter(reply -> reply.commitSeq() > commitSeq).limit(limit).toList();
+        }
+
+        @Override
+        public boolean addPending(long expected, long next, List<PendingDigest> pending) {
+            if (failNextAdd) {
+                failNextAdd = false;
+                throw new CannotAcquireLockException("Deadlock found");
+            }
+            if (watermark != expected) {
+                return false;
+            }
+            for (PendingDigest digest : pending) {
+                Row row = digests.stream()
+                    .filter(candidate -> candidate.pending() && candidate.recipientId == digest.recipientId()
+                        && candidate.topicId == digest.topicId())
+                    .findFirst()
+                    .orElse(null);
+                if (row == null) {
+                    row = new Row();
+                    row.digestId = digests.size() + 1;
+                    row.recipientId = digest.recipientId();
+                    row.topicId = digest.topicId();
+                    row.firstReplyId = digest.firstReplyId();
+                    row.createdAt = now;
+                    digests.add(row);
+                }
+                row.firstReplyId = Math.min(row.firstReplyId, digest.firstReplyId());
+                row.lastReplyId = Math.max(row.lastReplyId, digest.lastReplyId());
+                row.replyCount += digest.replyCount();
+            }
+            watermark = next;
+            return true;
+        }
+
+        @Override
+        public List<Digest> claimDue(String claimToken, long windowMs, long claimTimeoutMs, int limit) {
+            List<Digest> claimed = new ArrayList<>();
+            for (Row row : digests) {
+                boolean due = row.pending() && row.createdAt <= now - windowMs;
+                boolean abandoned = !row.sent && row.claimedAt != null && row.claimedAt <= now - claimTimeoutMs;
+                if ((due || abandoned) && claimed.size() < limit) {
+                    row.claimedBy = claimToken;
+                    row.claimedAt = now;
+                    claimed.add(new Digest(row.digestId, row.recipientId, "user" + row.recipientId + "@forohub",
+                        row.topicId, "Tópico " + row.topicId, row.firstReplyId, row.lastReplyId, row.replyCount));
+                }
+            }
+            return claimed;
+        }
+
+        @Override
+        public boolean markSent(long digestId, String claimToken) {
+            for (Row row : digests) {
+                if (row.digestId == digestId && Objects.equals(row.claimedBy, claimToken) && !row.sent) {
+                    row.sent = true;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.model.Tag;
+import com.luiscm.forohub.repository.TagRepository;
+
+class TagServiceTest {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TagService service = new TagService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "tagRepository", tagRepository);
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @Test
+    void existingTagsAreReusedWithoutInserting() {
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of(new Tag(1L, "java")));
+
+        var tags = service.resolve(Set.of(" Java "));
+
+        assertEquals(Map.of("java", 1L), byName(tags));
+        verify(jdbcTemplate, never()).update(anyString(), eq("java"));
+    }
+
+    @Test
+    void missingTagTakesTheIdOfTheRowInsertedOrFoundByTheUpsert() {
+        // La fila pudo crearla otra petición después de empezar esta transacción: el id sale del propio INSERT
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class)).thenReturn(7L);
+
+        var tags = service.resolve(Set.of("spring"));
+
+        assertEquals(Map.of("spring", 7L), byName(tags));
+        verify(jdbcTemplate).update(anyString(), eq("spring"));
+    }
+
+    private static Map<String, Long> byName(Set<Tag> tags) {
+        return tags.stream().collect(Collectors.toMap(Tag::getName, Tag::getTagId));
+    }
+}
@@ -0,0 +1,111 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.model.Course;
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.Tag;
+import com.luiscm.forohub.model.Topic;
+import com.luiscm.forohub.model.dto.TopicRegisterDTO;
+
+class TopicFacetIndexTest {
+
+    private TopicFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicFacetIndex();
+        index.index(topic(1L, 10L, StatusTopic.SOLVED, "java", "spring"));
+        index.index(topic(2L, 10L, StatusTopic.NO_RESPONSE, "java"));
+        index.index(topic(3L, 20L, StatusTopic.SOLVED, "spring", "jpa"));
+        index.index(topic(4L, 20L, StatusTopic.NO_RESPONSE, "python"));
+    }
+
+    @Test
+    void matchAllAndMatchAnyCombineTags() {
+        assertEquals(List.of(1L), search(Set.of("java", "spring"), true, null, null).topicIds());
+        assertEquals(List.of(3L, 2L, 1L), search(Set.of("java", "spring"), false, null, null).topicIds());
+        assertEquals(List.of(), search(Set.of("java", "rust"), true, null, null).topicIds());
+    }
+
+    @Test
+    void eachFacetIgnoresItsOwnFilter() {
+        var result = search(Set.of("java"), true, 10L, StatusTopic.SOLVED);
+
+        assertEquals(List.of(1L), result.topicIds());
+        // Etiquetas: curso 10 y SOLVED, sin el filtro de etiqueta
+        assertEquals(Map.of("java", 1, "spring", 1), result.tagFacets());
+        // Estados: java y curso 10, sin el filtro de estado
+        assertEquals(1, result.statusFacets().get(StatusTopic.SOLVED));
+        assertEquals(1, result.statusFacets().get(StatusTopic.NO_RESPONSE));
+        // Cursos: java y SOLVED, sin el filtro de curso
+        assertEquals(Map.of(10L, 1), result.courseFacets());
+    }
+
+    @Test
+    void reindexingMovesTheTopicAndDeletedTopicsAreHidden() {
+        index.index(topic(2L, 20L, StatusTopic.CLOSED, "jpa"));
+        var deleted = topic(4L, 20L, StatusTopic.NO_RESPONSE, "python");
+        deleted.deleteTopic();
+        index.index(deleted);
+
+        var result = search(null, true, 20L, null);
+
+        assertEquals(List.of(3L, 2L), result.topicIds());
+        assertEquals(Map.of("jpa", 2, "spring", 1), result.tagFacets());
+        assertNull(search(Set.of("java"), true, null, null).courseFacets().get(20L));
+    }
+
+    @Test
+    void pagesStartWithTheNewestTopic() {
+        var query = new TopicFacetIndex.Query(null, true, null, null, false);
+
+        assertEquals(List.of(4L, 3L), index.search(query, 0, 2).topicIds());
+        assertEquals(List.of(2L, 1L), index.search(query, 1, 2).topicIds());
+        assertEquals(4, index.search(query, 1, 2).total());
+    }
+
+    @Test
+    void idsBeyondTheIntRangeAreIndexedAndTooLargeOnesSkipped() {
+        long large = 3_000_000_000L;
+        index.index(topic(large, 10L, StatusTopic.SOLVED, "kotlin"));
+        // Fuera del rango de 32 bits: se omite sin hacer fallar la escritura
+        index.index(topic(TopicIds.MAX_INDEXABLE + 1, 10L, StatusTopic.SOLVED, "kotlin"));
+
+        var result = search(Set.of("kotlin"), true, null, null);
+
+        assertEquals(List.of(large), result.topicIds());
+        assertEquals(1, result.total());
+    }
+
+    private TopicFacetIndex.Result search(Set<String> tags, boolean matchAll, Long courseId, StatusTopic status) {
+        return index.search(new TopicFacetIndex.Query(tags, matchAll, courseId, status, false), 0, 10);
+    }
+
+    private static Topic topic(Long id, Long courseId, StatusTopic status, String... tags) {
+        var course = new Course();
+        ReflectionTestUtils.setField(course, "courseId", courseId);
+        var topic = new Topic(new TopicRegisterDTO("Título " + id, "Mensaje", 1L, courseId, null), null, course);
+        ReflectionTestUtils.setField(topic, "topicId", id);
+        ReflectionTestUtils.setField(topic, "status", status);
+        topic.setTags(Set.of(tags).stream().map(TopicFacetIndexTest::tag).collect(Collectors.toSet()));
+        return topic;
+    }
+
+    // Las etiquetas se comparan por id
+    private static Tag tag(String name) {
+        var tag = new Tag(name);
+        ReflectionTestUtils.setField(tag, "tagId", (long) name.hashCode());
+        return tag;
+    }
+}
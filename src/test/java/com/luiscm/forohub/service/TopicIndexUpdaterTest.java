@@ -0,0 +1,77 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.model.StatusTopic;
+import com.luiscm.forohub.model.Topic;
+import com.luiscm.forohub.model.dto.TopicRegisterDTO;
+import com.luiscm.forohub.model.event.ReplyCreated;
+import com.luiscm.forohub.model.event.TopicCreated;
+import com.luiscm.forohub.model.event.TopicDeleted;
+import com.luiscm.forohub.model.event.TopicUpdated;
+import com.luiscm.forohub.repository.TopicRepository;
+
+class TopicIndexUpdaterTest {
+
+    private final TopicRepository topicRepository = mock(TopicRepository.class);
+    private final TopicFacetIndex facetIndex = new TopicFacetIndex();
+    private final TopicSimilarityIndex similarityIndex = new TopicSimilarityIndex();
+    private final TopicIndexUpdater updater = new TopicIndexUpdater();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(similarityIndex, "threshold", 0.5);
+        ReflectionTestUtils.setField(similarityIndex, "maxResults", 5);
+        ReflectionTestUtils.setField(updater, "topicRepository", topicRepository);
+        ReflectionTestUtils.setField(updater, "topicFacetIndex", facetIndex);
+        ReflectionTestUtils.setField(updater, "topicSimilarityIndex", similarityIndex);
+    }
+
+    @Test
+    void topicsAreReloadedOnceAndIndexedWithTheirCurrentState() {
+        var deleted = topic(2L, "Error al conectar Spring Boot con MySQL");
+        deleted.deleteTopic();
+        when(topicRepository.findWithTagsByTopicIdIn(Set.of(1L, 2L))).thenReturn(List.of(
+            topic(1L, "Error al conectar Spring Boot con MySQL"), deleted));
+
+        updater.handle(List.of(
+            new TopicCreated(1L, 9L, null, StatusTopic.NO_RESPONSE),
+            new TopicUpdated(1L, null),
+            new TopicDeleted(2L, 9L, null, StatusTopic.NO_RESPONSE, 0)));
+
+        verify(topicRepository).findWithTagsByTopicIdIn(Set.of(1L, 2L));
+        var all = facetIndex.search(new TopicFacetIndex.Query(null, true, null, null, true), 0, 10);
+        var active = facetIndex.search(new TopicFacetIndex.Query(null, true, null, null, false), 0, 10);
+        assertEquals(List.of(2L, 1L), all.topicIds());
+        assertEquals(List.of(1L), active.topicIds());
+        var similar = similarityIndex.findSimilar(null, "Error al conectar Spring Boot con MySQL", "");
+        assertEquals(List.of(1L), similar.stream().map(TopicSimilarityIndex.Match::topicId).toList());
+    }
+
+    @Test
+    void otherEventsDoNotTouchTheDatabase() {
+        updater.handle(List.of(new ReplyCreated(100L, 1L, 9L, 10L, null, true)));
+
+        verifyNoInteractions(topicRepository);
+        assertTrue(facetIndex.search(new TopicFacetIndex.Query(null, true, null, null, true), 0, 10)
+            .topicIds().isEmpty());
+    }
+
+    private static Topic topic(Long id, String title) {
+        var topic = new Topic(new TopicRegisterDTO(title, "", 1L, null, null), null, null);
+        ReflectionTestUtils.setField(topic, "topicId", id);
+        return topic;
+    }
+}
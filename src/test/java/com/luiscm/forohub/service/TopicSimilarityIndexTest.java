@@ -0,0 +1,84 @@
+package com.luiscm.forohub.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luiscm.forohub.model.Topic;
+import com.luiscm.forohub.model.dto.TopicRegisterDTO;
+
+class TopicSimilarityIndexTest {
+
+    private static final String TITLE = "Error al conectar Spring Boot con MySQL";
+    private static final String MESSAGE = "Al arrancar la aplicación aparece Communications link failure "
+        + "aunque el servidor de base de datos está levantado en el puerto 3306";
+
+    private TopicSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicSimilarityIndex();
+        ReflectionTestUtils.setField(index, "threshold", 0.5);
+        ReflectionTestUtils.setField(index, "maxResults", 5);
+    }
+
+    @Test
+    void suggestsRepostInTheSameCourse() {
+        index.index(topic(1L, TITLE, MESSAGE));
+        index.index(topic(2L, "Cómo paginar resultados con Spring Data",
+            "Quiero devolver los tópicos de diez en diez ordenados por fecha de creación"));
+
+        List<TopicSimilarityIndex.Match> matches = index.findSimilar(null,
+            "error al conectar spring boot con mysql!", MESSAGE + " desde ayer");
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).topicId());
+        assertTrue(matches.get(0).similarity() >= 0.5);
+    }
+
+    @Test
+    void ignoresOtherCoursesAndDeletedTopics() {
+        index.index(topic(1L, TITLE, MESSAGE));
+        assertTrue(index.findSimilar(7L, TITLE, MESSAGE).isEmpty());
+
+        var deleted = topic(1L, TITLE, MESSAGE);
+        deleted.deleteTopic();
+        index.index(deleted);
+        assertTrue(index.findSimilar(null, TITLE, MESSAGE).isEmpty());
+    }
+
+    @Test
+    void estimateTracksWordOverlap() {
+        int[] original = TopicSimilarityIndex.signature(TITLE, MESSAGE);
+
+        assertEquals(1.0, TopicSimilarityIndex.estimate(original, TopicSimilarityIndex.signature(TITLE, MESSAGE)));
+        assertTrue(TopicSimilarityIndex.estimate(original,
+            TopicSimilarityIndex.signature("Duda sobre herencia en JPA", "Uso SINGLE_TABLE y no sé si conviene")) < 0.2);
+    }
+
+    @Test
+    void shinglesDoNotDependOnTheDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.ROOT);
+            var root = TopicSimilarityIndex.shingles("INSTALAR MYSQL EN LINUX");
+            // En turco la I mayúscula pasa a una ı sin punto
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals(root, TopicSimilarityIndex.shingles("INSTALAR MYSQL EN LINUX"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    private static Topic topic(Long id, String title, String message) {
+        var topic = new Topic(new TopicRegisterDTO(title, message, 1L, null, null), null, null);
+        ReflectionTestUtils.setField(topic, "topicId", id);
+        return topic;
+    }
+}
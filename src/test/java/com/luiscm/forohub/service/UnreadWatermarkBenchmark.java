@@ -0,0 +1,143 @@
+package com.luiscm.forohub.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.luiscm.forohub.repository.TopicReadStateRepository;
+
+/**
+ * Conteo de no leídos con 1M de marcas de lectura sobre una base MySQL desechable
+ * (se limpia y se migra con Flyway). No forma parte de la suite normal; se ejecuta con:
+ * ./mvnw test -Dtest=UnreadWatermarkBenchmark -Dbench.url=jdbc:mysql://localhost:3306/forohub_bench
+ */
+class UnreadWatermarkBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int TOPICS = 5_000;
+    private static final int REPLIES_PER_TOPIC = 40;
+    private static final int TOPICS_READ_PER_USER = 1_000;
+    private static final int BATCH = 10_000;
+
+    private static final String SEED_WATERMARK = """
+            INSERT INTO topic_read_state (user_id, topic_id, last_read_reply_id, last_read_commit_seq)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void unreadCountsWithOneMillionWatermarks() {
+        var dataSource = new DriverManagerDataSource(
+            System.getProperty("bench.url", "jdbc:mysql://localhost:3306/forohub_bench")
+                + "?createDatabaseIfNotExist=true&rewriteBatchedStatements=true",
+            System.getProperty("bench.user", "root"),
+            System.getProperty("bench.password", "0000"));
+
+        Flyway flyway = Flyway.configure().dataSource(dataSource).cleanDisabled(false).load();
+        flyway.clean();
+        flyway.migrate();
+
+        var jdbc = new JdbcTemplate(dataSource);
+        var named = new NamedParameterJdbcTemplate(jdbc);
+        seed(jdbc);
+
+        // Página de 20 tópicos para un usuario: una sola consulta
+        long[] pageTimes = new long[1_000];
+        for (int i = 0; i < pageTimes.length; i++) {
+            long userId = 1 + random.nextInt(USERS);
+            List<Long> topicIds = new ArrayList<>();
+            for (int t = 0; t < 20; t++) {
+                topicIds.add(1L + random.nextInt(TOPICS));
+            }
+            long start = System.nanoTime();
+            named.queryForList(TopicReadStateRepository.UNREAD_FOR_TOPICS,
+                Map.of("userId", userId, "topicIds", topicIds));
+            pageTimes[i] = System.nanoTime() - start;
+        }
+
+        // Resumen de un usuario con 1.000 tópicos seguidos
+        long[] summaryTimes = new long[200];
+        for (int i = 0; i < summaryTimes.length; i++) {
+            long userId = 1 + random.nextInt(USERS);
+            long start = System.nanoTime();
+            named.queryForList(TopicReadStateRepository.UNREAD_FOR_USER, Map.of("userId", userId, "limit", 100));
+            summaryTimes[i] = System.nanoTime() - start;
+        }
+
+        // Volcado por lotes de marcas
+        List<Object[]> watermarks = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            long topicId = 1 + random.nextInt(TOPICS);
+            watermarks.add(new Object[] {1L + random.nextInt(USERS), topicId, topicId * REPLIES_PER_TOPIC,
+                topicId * REPLIES_PER_TOPIC});
+        }
+        long flushStart = System.nanoTime();
+        jdbc.batchUpdate(TopicReadStateRepository.UPSERT_WATERMARK, watermarks);
+        long flushMillis = (System.nanoTime() - flushStart) / 1_000_000;
+
+        long rows = jdbc.queryForObject("SELECT COUNT(*) FROM topic_read_state", Long.class);
+        System.out.printf("marcas: %d%n", rows);
+        report("no leídos, página de 20 tópicos", pageTimes);
+        report("resumen por usuario", summaryTimes);
+        System.out.printf("volcado de %d marcas: %d ms%n", BATCH, flushMillis);
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 1; u <= USERS; u++) {
+            users.add(new Object[] {"user" + u, "user" + u + "@forohub.test"});
+        }
+        jdbc.batchUpdate("INSERT INTO users (name, email, password, telephone, profile) VALUES (?, ?, 'x', '0', 'USER')",
+            users);
+
+        List<Object[]> topics = new ArrayList<>();
+        for (int t = 1; t <= TOPICS; t++) {
+            topics.add(new Object[] {"Tópico " + t, 1 + random.nextInt(USERS)});
+        }
+        jdbc.batchUpdate("INSERT INTO topics (title, message, user_id) VALUES (?, 'mensaje', ?)", topics);
+
+        // Las respuestas de cada tópico tienen ids consecutivos: topicId * 40 - 39 .. topicId * 40
+        List<Object[]> replies = new ArrayList<>();
+        for (int t = 1; t <= TOPICS; t++) {
+            for (int r = 0; r < REPLIES_PER_TOPIC; r++) {
+                replies.add(new Object[] {t, 1 + random.nextInt(USERS)});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO replies (message, topic_id, user_id) VALUES ('respuesta', ?, ?)", replies);
+        // Sin concurrencia el orden de commit coincide con el de los ids
+        jdbc.update("UPDATE replies SET commit_seq = reply_id");
+
+        List<Object[]> watermarks = new ArrayList<>(BATCH);
+        for (int u = 1; u <= USERS; u++) {
+            int firstTopic = random.nextInt(TOPICS - TOPICS_READ_PER_USER);
+            for (int t = 1; t <= TOPICS_READ_PER_USER; t++) {
+                long topicId = firstTopic + t;
+                long lastRead = (topicId - 1) * REPLIES_PER_TOPIC + random.nextInt(REPLIES_PER_TOPIC + 1);
+                watermarks.add(new Object[] {u, topicId, lastRead, lastRead});
+                if (watermarks.size() == BATCH) {
+                    jdbc.batchUpdate(SEED_WATERMARK, watermarks);
+                    watermarks.clear();
+                }
+            }
+        }
+        if (!watermarks.isEmpty()) {
+            jdbc.batchUpdate(SEED_WATERMARK, watermarks);
+        }
+    }
+
+    private static void report(String name, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-32s p50 %6.2f ms   p99 %6.2f ms%n", name,
+            sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.99)] / 1e6);
+    }
+}